@@ -0,0 +1,179 @@
+package seedu.boba.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of encoding every word of a corpus of customer names, as done when customers are loaded or
+ * added and for the keywords of every find.
+ * {@link #legacySoundexOf(Blackhole)} encodes the way {@code NameSoundsSimilarToPredicate} used to, building a new
+ * string at every step, {@link #soundexOf(Blackhole)} uses {@link SoundexUtil#soundexOf(String)}, and
+ * {@link #encode(Blackhole)} encodes into a reused buffer with {@link SoundexUtil#encode(CharSequence, char[])}.
+ * The setup checks that both encoders give the same code for every word of the corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SoundexBenchmark {
+
+    private static final String[] NAMES = {
+        "Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer", "Fiona Kunz", "George Best",
+        "Hoon Meier", "Ida Mueller", "Tan Wen Cong", "Lim Jia Hui", "Lee Kuan Yew", "Ng Wei Ming", "Ong Bee Lian",
+        "Wong Siew Ling", "Goh Chok Tong", "Chua Hwee Leng", "Teo Kah Wai", "Koh Boon Huat", "Chan Mei Ling",
+        "Muhammad Faizal bin Rahman", "Nur Aisyah binte Ismail", "Siti Nurhaliza", "Ahmad Zulkifli",
+        "Mohamed Hafiz", "Rajesh Kumar", "Priya Ramasamy", "Suresh Krishnan", "Lakshmi Narayanan",
+        "Arjun Pillai", "John Smith", "Jon Smyth", "Robert Johnson", "Rupert Jonson", "Catherine Wright",
+        "Kathryn Rite", "Stephen Thompson", "Steven Tomson", "Michael Ashcraft", "Mikhail Ashcroft",
+        "Zhang Wei", "Wang Fang", "Li Na", "Liu Yang", "Chen Jing", "Nguyen Van An", "Tran Thi Mai",
+        "Kim Min Jun", "Park Ji Woo", "Sato Haruto", "Suzuki Yui", "Christopher Washington", "Pfister Schmidt",
+        "Bartholomew Honeyman", "Agent007 Bond", "R2D2 Droid"
+    };
+
+    private static final List<List<String>> soundexMapping = List.of(
+            List.of("a", "e", "i", "o", "u", "y", "h", "w"), //0
+            List.of("b", "f", "p", "v"), //1
+            List.of("c", "g", "j", "k", "q", "s", "x", "z"), //2
+            List.of("d", "t"), //3
+            List.of("l"), //4
+            List.of("m", "n"), //5
+            List.of("r") //6
+    );
+
+    private String[] words;
+    private char[] code = new char[SoundexUtil.CODE_LENGTH];
+
+    /**
+     * Splits the corpus into words, and checks that both encoders agree on each of them.
+     */
+    @Setup
+    public void setUp() {
+        List<String> corpus = new ArrayList<>();
+        for (String name : NAMES) {
+            for (String word : name.split(" ")) {
+                corpus.add(word);
+            }
+        }
+        words = corpus.toArray(new String[0]);
+
+        for (String word : words) {
+            if (!oldSoundexOf(word).equals(SoundexUtil.soundexOf(word))) {
+                throw new IllegalStateException("Encoders disagree on " + word);
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacySoundexOf(Blackhole blackhole) {
+        for (String word : words) {
+            blackhole.consume(oldSoundexOf(word));
+        }
+    }
+
+    @Benchmark
+    public void soundexOf(Blackhole blackhole) {
+        for (String word : words) {
+            blackhole.consume(SoundexUtil.soundexOf(word));
+        }
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        for (String word : words) {
+            blackhole.consume(SoundexUtil.encode(word, code));
+        }
+        blackhole.consume(code);
+    }
+
+    //====================LEGACY SOUNDEX==================================
+
+    private static String oldSoundexOf(String name) {
+        name = name.toLowerCase();
+        if (!isFullyAlphabetical(name)) {
+            return name;
+        }
+        name = dropHwy(name);
+        name = applySoundexMapping(name);
+        name = combineAdjacentDigits(name);
+        name = trimSoundexCode(name);
+        return name;
+    }
+
+    private static boolean isFullyAlphabetical(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            int ascii = (int) name.charAt(i);
+            if (!(ascii >= 65 && ascii <= 90) && !(ascii >= 97 && ascii <= 122)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String dropHwy(String name) {
+        if (name == null || name.length() < 2) {
+            return name;
+        }
+        String ans = "";
+        for (int i = 0; i < name.length(); i++) {
+            if (i == 0 || (name.charAt(i) != 'h' && name.charAt(i) != 'w' && name.charAt(i) != 'y')) {
+                ans = ans + name.charAt(i);
+            }
+        }
+        return ans;
+    }
+
+    private static String applySoundexMapping(String strippedName) {
+        if (strippedName == null || strippedName.length() < 2) {
+            return strippedName;
+        }
+        String ans = strippedName.substring(0, 1);
+        for (int i = 1; i < strippedName.length(); i++) {
+            for (int j = 0; j < soundexMapping.size(); j++) {
+                if (soundexMapping.get(j).contains(strippedName.substring(i, i + 1))) {
+                    ans = ans + j;
+                    break;
+                }
+            }
+        }
+        return ans;
+    }
+
+    private static String combineAdjacentDigits(String code) {
+        if (code == null || code.length() <= 2) {
+            return code;
+        }
+        String ans = code.substring(0, 2);
+        for (int i = 2; i < code.length(); i++) {
+            if (code.charAt(i) != code.charAt(i - 1)) {
+                ans = ans + code.charAt(i);
+            }
+        }
+        return ans;
+    }
+
+    private static String trimSoundexCode(String code) {
+        String ans = "";
+        for (int i = 0; i < code.length(); i++) {
+            if (code.charAt(i) != '0') {
+                ans = ans + code.charAt(i);
+            }
+        }
+        while (ans.length() < 4) {
+            ans = ans + "0";
+        }
+        if (ans.length() > 4) {
+            ans = ans.substring(0, 4);
+        }
+        return ans;
+    }
+
+}
@@ -0,0 +1,126 @@
+package seedu.boba.model.customer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.boba.model.tag.Tag;
+
+/**
+ * Measures the cost of the details of 100k generated customers being searched and compared, as done by
+ * {@code find} through {@link AllInfoContainsKeywordsPredicate#test(Customer)}, and by committing bobaBot through
+ * {@link Customer#strictlyEquals(Object)} against the customers of the previous state.
+ * The {@code uncached} benchmarks build the details of each customer again on every call, as {@code Customer} did
+ * before it cached them, while the {@code cached} benchmarks use the cached details.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomerInfoBenchmark {
+
+    private static final int CUSTOMER_COUNT = 100_000;
+    private static final String KEYWORD = "Kumar";
+
+    private static final String[] NAMES = {"Alice Tan", "Benson Lim", "Carl Kurz", "Rajesh Kumar", "Siti Rahman"};
+    private static final String[] TAGS = {"gold", "silver", "member", "vip"};
+
+    private List<Customer> customers;
+    private List<Customer> copies;
+    private AllInfoContainsKeywordsPredicate predicate;
+
+    /**
+     * Generates the customers, and a strictly equal copy of each of them as found in the previous state of bobaBot.
+     */
+    @Setup
+    public void setUp() {
+        customers = new ArrayList<>(CUSTOMER_COUNT);
+        copies = new ArrayList<>(CUSTOMER_COUNT);
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            customers.add(generateCustomer(i));
+            copies.add(generateCustomer(i));
+        }
+        predicate = new AllInfoContainsKeywordsPredicate(List.of(KEYWORD));
+    }
+
+    private static Customer generateCustomer(int i) {
+        String name = NAMES[i % NAMES.length];
+        return new Customer(new Name(name), new Phone(String.valueOf(80000000 + i)),
+                new Email(name.split(" ")[0].toLowerCase() + "." + i + "@example.com"),
+                BirthdayMonth.of(String.valueOf(i % 12 + 1)), new Reward(i % 5000),
+                Set.of(Tag.of(TAGS[i % TAGS.length])));
+    }
+
+    @Benchmark
+    public int uncachedFind() {
+        String keyword = KEYWORD.toLowerCase();
+        int count = 0;
+        for (Customer customer : customers) {
+            if (buildAllInfo(customer).toLowerCase().contains(keyword)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int cachedFind() {
+        int count = 0;
+        for (Customer customer : customers) {
+            if (predicate.test(customer)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int uncachedCommit() {
+        int count = 0;
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            if (buildAllInfo(customers.get(i)).equals(buildAllInfo(copies.get(i)))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int cachedCommit() {
+        int count = 0;
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            if (customers.get(i).strictlyEquals(copies.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Builds the details of {@code customer} the way {@link Customer#getAllInfo()} did before they were cached.
+     */
+    private static String buildAllInfo(Customer customer) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(customer.getName() + "\n")
+                .append(customer.getPhone() + "\n")
+                .append(customer.getEmail() + "\n")
+                .append(customer.getBirthdayMonth() + "\n")
+                .append(customer.getReward() + "\n");
+
+        Set<Tag> tags = customer.getTags();
+        if (!tags.isEmpty()) {
+            tags.forEach(builder::append);
+            builder.append("\n");
+        }
+        return builder.toString();
+    }
+
+}
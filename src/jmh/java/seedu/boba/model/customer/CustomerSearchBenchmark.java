@@ -0,0 +1,87 @@
+package seedu.boba.model.customer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.boba.model.tag.Tag;
+
+/**
+ * Measures the cost of finding the customers whose details contain a keyword among 100k generated customers, for
+ * the partial phone numbers, email domains and names that staff typically type.
+ * {@link #scan()} tests every customer against the keyword, as the filtered list did before customers were
+ * indexed, and {@link #indexed()} looks the keyword up in the indexes of the customer list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerSearchBenchmark {
+
+    private static final int CUSTOMER_COUNT = 100_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George", "Hoon", "Ida", "Wen", "Jia", "Wei", "Siti",
+        "Muhammad", "Priya", "Rajesh", "John", "Mei", "Ling", "Arjun"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Teo", "Koh", "Chan", "Meier", "Kurz", "Kumar", "Pillai",
+        "Smith", "Rahman", "Ismail", "Best", "Kunz", "Mueller"
+    };
+    private static final String[] DOMAINS = {"example.com", "gmail.com", "u.nus.edu", "hotmail.sg", "boba.shop"};
+    private static final String[] TAGS = {"gold", "silver", "member", "vip"};
+
+    @Param({"4821", "nus.edu", "kumar", "ng"})
+    private String keyword;
+
+    private List<Customer> customers;
+    private UniqueCustomerList customerList;
+    private AllInfoContainsKeywordsPredicate predicate;
+
+    /**
+     * Generates the customers, and builds the search indexes of the customer list ahead of the first search.
+     */
+    @Setup
+    public void setUp() {
+        customers = new ArrayList<>(CUSTOMER_COUNT);
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            String phone = String.valueOf(80000000 + i * 97 % 20000000);
+            String email = firstName.toLowerCase() + "." + i + "@" + DOMAINS[i % DOMAINS.length];
+            customers.add(new Customer(new Name(firstName + " " + lastName), new Phone(phone), new Email(email),
+                    BirthdayMonth.of(String.valueOf(i % 12 + 1)), new Reward(i % 5000),
+                    Set.of(Tag.of(TAGS[i % TAGS.length]))));
+        }
+        customerList = new UniqueCustomerList();
+        customerList.setPersons(customers);
+        customerList.findByKeyword(keyword);
+        predicate = new AllInfoContainsKeywordsPredicate(List.of(keyword));
+    }
+
+    @Benchmark
+    public int scan() {
+        int count = 0;
+        for (Customer customer : customers) {
+            if (predicate.test(customer)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int indexed() {
+        return customerList.findByKeyword(keyword).size();
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.boba.model.customer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.boba.model.tag.Tag;
+
+/**
+ * Measures the cost of validating every field of one customer, as done on load and on every add or edit.
+ * {@link #stringMatches()} validates the way the field classes used to, compiling each regex on every call, and
+ * {@link #fieldValidators()} uses the current validators of the field classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomerValidationBenchmark {
+
+    private String name = "Alice Pauline";
+    private String phone = "94351253";
+    private String email = "alice.pauline-tan@example.com.sg";
+    private String birthdayMonth = "7";
+    private String reward = "1234";
+    private String tag = "friends";
+
+    @Benchmark
+    public boolean stringMatches() {
+        return name.matches(Name.VALIDATION_REGEX)
+                && phone.matches(Phone.VALIDATION_REGEX) && phone.length() == 8
+                && email.matches(Email.VALIDATION_REGEX)
+                && birthdayMonth.matches(BirthdayMonth.VALIDATION_REGEX) && isMonth(birthdayMonth)
+                && reward.matches(Reward.VALIDATION_REGEX)
+                && tag.matches(Tag.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean fieldValidators() {
+        return Name.isValidName(name)
+                && Phone.isValidPhone(phone)
+                && Email.isValidEmail(email)
+                && BirthdayMonth.isValidBirthdayMonth(birthdayMonth)
+                && Reward.isValidReward(reward)
+                && Tag.isValidTagName(tag);
+    }
+
+    private static boolean isMonth(String test) {
+        try {
+            int month = Integer.parseInt(test);
+            return month > 0 && month < 13;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+}
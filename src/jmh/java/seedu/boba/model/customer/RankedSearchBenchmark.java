@@ -0,0 +1,100 @@
+package seedu.boba.model.customer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.boba.logic.commands.FindCommand;
+import seedu.boba.model.tag.Tag;
+
+/**
+ * Measures the cost of listing the best matches of a ranked find among 100k generated customers, for a common name,
+ * a misspelt name and a name that matches nobody.
+ * {@link #scoreAll()} works out the exact score of every customer and sorts all the matches, while
+ * {@link #findTopMatches()} keeps only the best {@link FindCommand#MAX_RANKED_RESULTS} and stops working out
+ * distances that could not beat them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RankedSearchBenchmark {
+
+    private static final int CUSTOMER_COUNT = 100_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George", "Hoon", "Ida", "Wen", "Jia", "Wei", "Siti",
+        "Muhammad", "Priya", "Rajesh", "John", "Mei", "Ling", "Arjun"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Teo", "Koh", "Chan", "Meier", "Kurz", "Kumar", "Pillai",
+        "Smith", "Rahman", "Ismail", "Best", "Kunz", "Mueller"
+    };
+
+    @Param({"tan", "muhamad", "zacharias"})
+    private String keyword;
+
+    private List<Customer> customers;
+    private RankedNameSearch search;
+
+    /**
+     * Generates the customers, and checks that both ways of ranking them list the same best matches.
+     */
+    @Setup
+    public void setUp() {
+        customers = new ArrayList<>(CUSTOMER_COUNT);
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            customers.add(new Customer(new Name(firstName + " " + lastName), new Phone(String.valueOf(80000000 + i)),
+                    new Email(firstName.toLowerCase() + "." + i + "@example.com"),
+                    BirthdayMonth.of(String.valueOf(i % 12 + 1)), new Reward(i % 5000), Set.of(Tag.of("member"))));
+        }
+        search = new RankedNameSearch(List.of(keyword));
+
+        if (!scoreAll().equals(findTopMatches())) {
+            throw new IllegalStateException("Rankings disagree on " + keyword);
+        }
+    }
+
+    @Benchmark
+    public List<Customer> scoreAll() {
+        List<Customer> matches = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        for (Customer customer : customers) {
+            int score = search.score(customer);
+            if (score != RankedNameSearch.NO_MATCH) {
+                matches.add(customer);
+                scores.add(score);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(scores::get));
+
+        List<Customer> topMatches = new ArrayList<>();
+        for (int i = 0; i < Math.min(FindCommand.MAX_RANKED_RESULTS, order.size()); i++) {
+            topMatches.add(matches.get(order.get(i)));
+        }
+        return topMatches;
+    }
+
+    @Benchmark
+    public List<Customer> findTopMatches() {
+        return search.findTopMatches(customers, FindCommand.MAX_RANKED_RESULTS);
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.boba;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -22,12 +23,15 @@ import seedu.boba.model.ReadOnlyBobaBot;
 import seedu.boba.model.ReadOnlyUserPrefs;
 import seedu.boba.model.UserPrefs;
 import seedu.boba.model.util.SampleDataUtil;
+import seedu.boba.storage.BinaryBobaBotStorage;
 import seedu.boba.storage.BobaBotStorage;
+import seedu.boba.storage.JournalBobaBotStorage;
 import seedu.boba.storage.JsonBobaBotStorage;
 import seedu.boba.storage.JsonUserPrefsStorage;
 import seedu.boba.storage.Storage;
 import seedu.boba.storage.StorageManager;
 import seedu.boba.storage.UserPrefsStorage;
+import seedu.boba.storage.WriteBehindBobaBotStorage;
 import seedu.boba.ui.Ui;
 import seedu.boba.ui.UiManager;
 
@@ -49,6 +53,7 @@ public class MainApp extends Application {
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing BobaBot ]===========================");
+        long initStartTime = System.nanoTime();
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
@@ -56,7 +61,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        BobaBotStorage bobaBotStorage = new JsonBobaBotStorage(userPrefs.getBobaBotFilePath());
+        BobaBotStorage bobaBotStorage = new WriteBehindBobaBotStorage(initBobaBotStorage(userPrefs));
         storage = new StorageManager(bobaBotStorage, userPrefsStorage);
 
         initLogging(config);
@@ -66,6 +71,23 @@ public class MainApp extends Application {
         logic = new LogicManager(bobaBotModel, storage);
 
         ui = new UiManager(logic);
+        logger.info("Initialized BobaBot in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartTime) + " ms");
+    }
+
+    /**
+     * Returns a {@code BobaBotStorage} for the data file at {@code userPrefs}'s file path, in the format chosen
+     * in {@code userPrefs}.
+     */
+    private BobaBotStorage initBobaBotStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getDataFileFormat()) {
+        case JOURNAL:
+            return new JournalBobaBotStorage(userPrefs.getBobaBotFilePath());
+        case BINARY:
+            return new BinaryBobaBotStorage(userPrefs.getBobaBotFilePath());
+        default:
+            return new JsonBobaBotStorage(userPrefs.getBobaBotFilePath());
+        }
     }
 
     /**
@@ -78,7 +100,10 @@ public class MainApp extends Application {
         Optional<ReadOnlyBobaBot> addressBookOptional;
         ReadOnlyBobaBot initialData;
         try {
+            long startTime = System.nanoTime();
             addressBookOptional = storage.readBobaBot();
+            logger.info("Read data file " + storage.getBobaBotFilePath() + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample BobaBot");
             }
@@ -180,5 +205,29 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            saveBobaBotBeforeExit();
+        } catch (IOException e) {
+            logger.severe("Failed to save BobaBot data " + StringUtil.getDetails(e));
+            ui.showErrorDialogAndWait("Failed to save data",
+                    "The latest changes could not be saved to " + storage.getBobaBotFilePath(), e.toString());
+        }
+    }
+
+    /**
+     * Waits for the saves of BobaBot data still being written, then saves the data once more if any of them
+     * failed or if it has changes that were never saved.
+     */
+    private void saveBobaBotBeforeExit() throws IOException {
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save BobaBot data, saving it again " + StringUtil.getDetails(e));
+            bobaBotModel.markBobaBotSaveFailed();
+        }
+        if (bobaBotModel.hasUnsavedChanges()) {
+            storage.saveBobaBot(bobaBotModel.getBobaBot());
+            storage.flush();
+        }
     }
 }
@@ -0,0 +1,133 @@
+package seedu.boba.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing comma-separated values, one record per line.
+ * Values containing a separator, a double quote or a line break are enclosed in double quotes, with double quotes
+ * inside them doubled. Quoted values spanning several lines are not supported.
+ */
+public class CsvUtil {
+
+    public static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the values of the CSV record {@code line}. Unquoted values have surrounding whitespace removed, while
+     * quoted values are kept exactly as written.
+     *   <br>examples:<pre>
+     *       parseLine("a, b") == ["a", "b"]
+     *       parseLine("\"a, b\",\"say \"\"hi\"\"\"") == ["a, b", "say \"hi\""]
+     *       parseLine("a,") == ["a", ""]
+     *       </pre>
+     * @param line cannot be null
+     * @throws IllegalArgumentException if a quoted value is not closed, or is followed by more text.
+     */
+    public static List<String> parseLine(String line) {
+        requireNonNull(line);
+
+        List<String> values = new ArrayList<>();
+        int i = 0;
+        while (true) {
+            while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+
+            String value;
+            int end;
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                StringBuilder quotedValue = new StringBuilder();
+                i = readQuotedValue(line, i + 1, quotedValue);
+                end = indexOfSeparator(line, i);
+                if (!line.substring(i, end).isBlank()) {
+                    throw new IllegalArgumentException("Unexpected text after a quoted value in CSV record: " + line);
+                }
+                value = quotedValue.toString();
+            } else {
+                end = indexOfSeparator(line, i);
+                value = line.substring(i, end).trim();
+            }
+            values.add(value);
+
+            if (end == line.length()) {
+                return values;
+            }
+            i = end + 1;
+        }
+    }
+
+    /**
+     * Writes {@code values} to {@code out} as a single CSV record, followed by a line break.
+     * Values are quoted only when they need to be.
+     */
+    public static void writeLine(Appendable out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(SEPARATOR);
+            }
+            writeValue(out, values[i]);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Appends the quoted value of {@code line} that starts at {@code start}, just after its opening quote, to
+     * {@code value}, and returns the position just after its closing quote.
+     */
+    private static int readQuotedValue(String line, int start, StringBuilder value) {
+        int i = start;
+        while (true) {
+            if (i == line.length()) {
+                throw new IllegalArgumentException("Unclosed quote in CSV record: " + line);
+            }
+            char c = line.charAt(i++);
+            if (c != QUOTE) {
+                value.append(c);
+            } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                value.append(QUOTE);
+                i++;
+            } else {
+                return i;
+            }
+        }
+    }
+
+    private static int indexOfSeparator(String line, int from) {
+        int index = line.indexOf(SEPARATOR, from);
+        return index == -1 ? line.length() : index;
+    }
+
+    private static void writeValue(Appendable out, String value) throws IOException {
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+
+        out.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return !value.isEmpty() && (Character.isWhitespace(value.charAt(0))
+                || Character.isWhitespace(value.charAt(value.length() - 1)));
+    }
+
+}
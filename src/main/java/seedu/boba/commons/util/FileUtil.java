@@ -1,10 +1,23 @@
 package seedu.boba.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Writes and reads files
@@ -12,6 +25,32 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak.";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /** Files at least this large are memory-mapped when read as a buffer. Smaller files are cheaper to copy. */
+    private static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
+    /**
+     * Whether files that are later replaced can be memory-mapped. A mapping lasts until its buffer is garbage
+     * collected, and on Windows the file cannot be replaced by {@link #writeToFileAtomically} until then, while
+     * elsewhere the replaced file stays mapped until then without blocking the replacement.
+     */
+    static final boolean CAN_MAP_REPLACED_FILES =
+            !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    // Saves can come from more than one thread, so each thread reuses its own buffer
+    private static final ThreadLocal<ByteBuffer> writeBuffer =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE));
+
+    /**
+     * Writes the content of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +111,33 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the content of {@code file} as a buffer, without decoding it.
+     * Files of at least {@link #MAPPED_READ_THRESHOLD} bytes are memory-mapped where {@link #CAN_MAP_REPLACED_FILES},
+     * so that they are parsed straight out of the page cache. Other files are copied into a heap buffer.
+     * Assumes file exists.
+     */
+    public static ByteBuffer readFromFileAsBuffer(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to be read");
+            }
+            if (size >= MAPPED_READ_THRESHOLD && CAN_MAP_REPLACED_FILES) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +146,173 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes {@code content} to {@code file}, opened with the given {@code options} such as
+     * {@link StandardOpenOption#APPEND}, and forces it to the storage device before returning, so that it survives
+     * an operating system crash or power loss as well as a crash of the app.
+     * A file created by this write is also forced into its directory.
+     */
+    public static void writeToFileDurably(Path file, byte[] content, OpenOption... options) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+
+        Set<OpenOption> openOptions = new HashSet<>(Arrays.asList(options));
+        openOptions.add(StandardOpenOption.WRITE);
+        boolean isNewFile = !Files.exists(file);
+        try (FileChannel channel = FileChannel.open(file, openOptions)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        if (isNewFile) {
+            forceDirectoryOf(file);
+        }
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code contentWriter} writes, such that a crash at any point
+     * leaves either the old or the new content in place, never a mix of the two.
+     * The content is written and forced to a temporary file in the same directory, which is then atomically moved
+     * over {@code file}. Before the move, the previous content is kept as {@code <file>.bak.1}, and older copies
+     * are shifted up to {@code <file>.bak.<backupCount>}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param backupCount the number of previous copies to keep. Cannot be negative.
+     * @throws IOException if the content could not be written, in which case {@code file} is left untouched.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, int backupCount)
+            throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        assert backupCount >= 0;
+
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ChannelOutputStream out = new ChannelOutputStream(channel, writeBuffer.get());
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            rotateBackups(file, backupCount);
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectoryOf(file);
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th previous copy of {@code file}, where 1 is the most recent.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Shifts each backup of {@code file} one generation older, dropping the oldest,
+     * then keeps the current content of {@code file} as the newest backup.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount == 0 || !isFileExists(file)) {
+            return;
+        }
+
+        for (int generation = backupCount; generation > 1; generation--) {
+            Path older = getBackupFilePath(file, generation - 1);
+            if (Files.exists(older)) {
+                Files.move(older, getBackupFilePath(file, generation), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // A hard link keeps the old content alive without copying it, as the move replaces only the directory entry
+        Path newest = getBackupFilePath(file, 1);
+        Files.deleteIfExists(newest);
+        try {
+            Files.createLink(newest, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, newest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of {@code file} to disk, so that a completed move survives a crash.
+     * Not all platforms allow a directory to be opened, in which case this does nothing.
+     */
+    private static void forceDirectoryOf(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move itself has completed, so there is nothing more that can be done here
+        }
+    }
+
+    /**
+     * Writes bytes to a {@code FileChannel} through a direct buffer.
+     * Closing the stream only flushes it, so that the channel can still be forced afterwards.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        ChannelOutputStream(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+            buffer.clear();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunk = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
 }
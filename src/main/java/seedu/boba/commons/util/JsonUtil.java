@@ -3,6 +3,9 @@ package seedu.boba.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +14,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -19,6 +24,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import seedu.boba.commons.core.LogsCenter;
 import seedu.boba.commons.exceptions.DataConversionException;
@@ -40,7 +46,13 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, 0);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, int backupCount)
+            throws IOException {
+        FileUtil.writeToFileAtomically(jsonFile,
+            out -> objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize), backupCount);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -84,10 +96,18 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but also keeps up to {@code backupCount} previous copies
+     * of the file, as described in {@link FileUtil#writeToFileAtomically}.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int backupCount) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, backupCount);
     }
 
 
@@ -110,6 +130,46 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, followed by a newline
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance) + "\n";
+    }
+
+    /**
+     * Returns a parser that reads JSON data from {@code in} one token at a time.
+     * Values can be read from it with {@link JsonParser#readValueAs(Class)}, using the same settings as
+     * {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Similar to {@link #createJsonParser(InputStream)}, but reads the remaining bytes of {@code buffer}.
+     * A heap buffer is parsed in place, and any other buffer, such as a mapped file, is read a chunk at a time.
+     */
+    public static JsonParser createJsonParser(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return objectMapper.getFactory().createParser(buffer.array(),
+                    buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return createJsonParser(new ByteBufferBackedInputStream(buffer));
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON data to {@code out} one token at a time.
+     * Values can be written to it with {@link JsonGenerator#writeObject(Object)}, using the same settings as
+     * {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,94 @@
+package seedu.boba.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for encoding words by how they sound.
+ * Implemented using soundex (algorithm can be found on wikipedia, slight modifications were made): the first letter
+ * is kept, h, w and y are dropped from the rest, and the remaining letters are replaced by their digits. Runs of the
+ * same digit are then merged, zeros are dropped, and the code is padded or cut to a letter and three digits. Unlike
+ * standard soundex, the first letter is not merged with a following letter of the same digit.
+ *
+ * @author albertZhangTJ
+ */
+public class SoundexUtil {
+
+    public static final int CODE_LENGTH = 4;
+
+    // Digit of each letter from a to z: vowels, h, w and y are 0, and consonants that sound alike share a digit
+    private static final char[] DIGITS = "01230120022455012623010202".toCharArray();
+
+    private static final char NO_DIGIT = 0;
+
+    /**
+     * Returns the soundex code of {@code word}, a letter followed by three digits, so that words which sound alike
+     * have the same code. Words that are not fully alphabetical are returned in lower case instead.
+     *   <br>examples:<pre>
+     *       soundexOf("Robert") == "r163"
+     *       soundexOf("Rupert") == "r163"
+     *       soundexOf("R2D2") == "r2d2"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String soundexOf(String word) {
+        requireNonNull(word);
+        char[] code = new char[CODE_LENGTH];
+        if (encode(word, code)) {
+            return new String(code);
+        }
+
+        // A few other letters, such as the Kelvin sign, are alphabetical once in lower case
+        String lowerCaseWord = word.toLowerCase();
+        return encode(lowerCaseWord, code) ? new String(code) : lowerCaseWord;
+    }
+
+    /**
+     * Writes the soundex code of {@code word} into the first {@link #CODE_LENGTH} chars of {@code code} in a single
+     * pass without allocating, and returns true, if {@code word} consists of the letters a to z in either case only.
+     * Otherwise returns false, and the contents of {@code code} are unspecified.
+     *
+     * @param word cannot be null
+     * @param code cannot be null, and must have room for at least {@link #CODE_LENGTH} chars
+     * @see #soundexOf(String)
+     */
+    public static boolean encode(CharSequence word, char[] code) {
+        requireNonNull(word);
+        requireNonNull(code);
+
+        int length = 0;
+        char previousDigit = NO_DIGIT;
+        for (int i = 0; i < word.length(); i++) {
+            char letter = toLowerCaseLetter(word.charAt(i));
+            if (letter == NO_DIGIT) {
+                return false;
+            }
+            if (i == 0) {
+                code[length++] = letter;
+                continue;
+            }
+            if (letter == 'h' || letter == 'w' || letter == 'y') {
+                continue;
+            }
+
+            char digit = DIGITS[letter - 'a'];
+            if (digit != previousDigit && digit != '0' && length < CODE_LENGTH) {
+                code[length++] = digit;
+            }
+            previousDigit = digit;
+        }
+
+        while (length < CODE_LENGTH) {
+            code[length++] = '0';
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code c} in lower case if it is one of the letters a to z in either case, or {@code NO_DIGIT} if not.
+     */
+    private static char toLowerCaseLetter(char c) {
+        char lowerCase = (char) (c | 0x20);
+        return lowerCase >= 'a' && lowerCase <= 'z' ? lowerCase : NO_DIGIT;
+    }
+
+}
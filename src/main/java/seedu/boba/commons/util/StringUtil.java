@@ -38,6 +38,67 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}: the fewest insertions,
+     * deletions, substitutions and swaps of adjacent characters that turn one into the other, where no character is
+     * edited again after being swapped. Gives up as soon as the distance is known to be more than
+     * {@code maxDistance}, and returns {@code maxDistance + 1} in that case.
+     *   <br>examples:<pre>
+     *       damerauLevenshteinDistance("alice", "alcie", 2) == 1 //one swap
+     *       damerauLevenshteinDistance("kurz", "kunz", 2) == 1
+     *       damerauLevenshteinDistance("benson", "ben", 1) == 2 //more than 1
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int damerauLevenshteinDistance(CharSequence first, CharSequence second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int tooFar = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        // Distances from the first i characters of first to each prefix of second, for the current and last two i
+        int[] twoRowsBack = new int[second.length() + 1];
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        int previousRowMin = 0;
+        for (int i = 1; i <= first.length(); i++) {
+            row[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previousRow[j] + 1, row[j - 1] + 1),
+                        previousRow[j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, twoRowsBack[j - 2] + 1);
+                }
+                row[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+
+            // A swap can skip a row, so every alignment goes through one of the last two rows
+            if (Math.min(rowMin, previousRowMin) > maxDistance) {
+                return tooFar;
+            }
+            previousRowMin = rowMin;
+            int[] reused = twoRowsBack;
+            twoRowsBack = previousRow;
+            previousRow = row;
+            row = reused;
+        }
+        return Math.min(previousRow[second.length()], tooFar);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
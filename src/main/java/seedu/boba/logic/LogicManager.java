@@ -23,6 +23,8 @@ import seedu.boba.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String EARLIER_SAVE_FAILED_MESSAGE =
+            "Could not save earlier changes to file, so they are being saved again and the command was not run: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final BobaBotModel bobaBotModel;
@@ -42,6 +44,18 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // A save that failed since the last command is retried and reported before the command can fail on its own
+        try {
+            saveUnsavedChanges();
+        } catch (IOException ioe) {
+            try {
+                saveUnsavedChanges();
+            } catch (IOException retryFailure) {
+                logger.warning("Failed to save BobaBot data again, will retry on the next command: " + retryFailure);
+            }
+            throw new CommandException(EARLIER_SAVE_FAILED_MESSAGE + ioe, ioe);
+        }
+
         CommandResult commandResult;
         Command command = bobaBotParser.parseCommand(commandText);
         commandResult = command.execute(bobaBotModel);
@@ -50,7 +64,7 @@ public class LogicManager implements Logic {
         }
 
         try {
-            storage.saveBobaBot(bobaBotModel.getBobaBot());
+            saveUnsavedChanges();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -58,6 +72,25 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves bobaBot if it has unsaved changes. bobaBot is only marked as saved once the storage has written it,
+     * and has unsaved changes again if the storage reports that a save failed.
+     *
+     * @throws IOException if this save or an earlier one failed.
+     */
+    private void saveUnsavedChanges() throws IOException {
+        try {
+            storage.reportFailedSaves();
+            if (bobaBotModel.hasUnsavedChanges()) {
+                long version = bobaBotModel.markBobaBotSaving();
+                storage.saveBobaBot(bobaBotModel.getBobaBot(), () -> bobaBotModel.markBobaBotSaved(version));
+            }
+        } catch (IOException ioe) {
+            bobaBotModel.markBobaBotSaveFailed();
+            throw ioe;
+        }
+    }
+
     @Override
     public ReadOnlyBobaBot getBobaBot() {
         return bobaBotModel.getBobaBot();
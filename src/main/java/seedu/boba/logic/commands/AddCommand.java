@@ -7,9 +7,6 @@ import static seedu.boba.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_REWARD;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.boba.model.customer.Customer.BIRTHDAY_TAG;
-
-import java.time.LocalDate;
 
 import seedu.boba.logic.commands.exceptions.CommandException;
 import seedu.boba.model.BobaBotModel;
@@ -60,16 +57,6 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CUSTOMER);
         }
 
-        LocalDate currentDate = LocalDate.now();
-        String currentMonth = String.valueOf(currentDate.getMonth().getValue());
-        if (toAdd.getTags().contains(BIRTHDAY_TAG)
-                && !toAdd.getBirthdayMonth().value.equals(currentMonth)) {
-            toAdd.removeBirthdayTag();
-        } else if (!toAdd.getTags().contains(BIRTHDAY_TAG)
-                && toAdd.getBirthdayMonth().value.equals(currentMonth)) {
-            toAdd.addBirthdayTag();
-        }
-
         bobaBotModel.addPerson(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
@@ -8,7 +8,6 @@ import java.util.NoSuchElementException;
 
 import seedu.boba.commons.core.Messages;
 import seedu.boba.logic.commands.exceptions.CommandException;
-import seedu.boba.logic.parser.ParserUtil;
 import seedu.boba.logic.parser.exceptions.ParseException;
 import seedu.boba.model.BobaBotModel;
 import seedu.boba.model.customer.Email;
@@ -31,7 +30,7 @@ public class DecreaseCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1000" + " p/98349032  or  "
             + COMMAND_WORD + " 500" + " e/example@gmail.com";
 
-    private String decrementReward;
+    private final long decrementReward;
 
     private Phone phoneIdentifier = null;
     private Email emailIdentifier = null;
@@ -46,7 +45,7 @@ public class DecreaseCommand extends Command {
         requireNonNull(phoneIdentifier);
 
         this.phoneIdentifier = phoneIdentifier;
-        this.decrementReward = rewardPoints;
+        this.decrementReward = Long.parseLong(rewardPoints);
     }
 
     /**
@@ -57,7 +56,7 @@ public class DecreaseCommand extends Command {
         requireNonNull(emailIdentifier);
 
         this.emailIdentifier = emailIdentifier;
-        this.decrementReward = rewardPoints;
+        this.decrementReward = Long.parseLong(rewardPoints);
     }
 
     @Override
@@ -69,11 +68,10 @@ public class DecreaseCommand extends Command {
             Reward currentReward = isNull(phoneIdentifier)
                     ? bobaBotModel.getCurrentReward(emailIdentifier)
                     : bobaBotModel.getCurrentReward(phoneIdentifier);
-            int newReward = Integer.parseInt(currentReward.value) - Integer.parseInt(decrementReward);
-            if (newReward < 0) {
+            if (decrementReward > currentReward.value) {
                 throw new ParseException(Reward.MESSAGE_NEGATIVE);
             }
-            editPersonDescriptor.setReward(ParserUtil.parseReward(String.valueOf(newReward)));
+            editPersonDescriptor.setReward(currentReward.decreaseBy(decrementReward));
             EditCommand editCommand = isNull(phoneIdentifier)
                     ? new EditCommand(emailIdentifier, editPersonDescriptor)
                     : new EditCommand(phoneIdentifier, editPersonDescriptor);
@@ -99,7 +97,7 @@ public class DecreaseCommand extends Command {
         DecreaseCommand e = (DecreaseCommand) other;
         return (isNull(emailIdentifier) && phoneIdentifier.equals(e.phoneIdentifier)
                 || isNull(phoneIdentifier) && emailIdentifier.equals(e.emailIdentifier))
-                && decrementReward.equals(e.decrementReward)
+                && decrementReward == e.decrementReward
                 && editPersonDescriptor.equals(e.editPersonDescriptor);
     }
 }
@@ -9,9 +9,7 @@ import static seedu.boba.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_REWARD;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.boba.model.BobaBotModel.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.boba.model.customer.Customer.BIRTHDAY_TAG;
 
-import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -109,15 +107,6 @@ public class EditCommand extends Command {
         }
         Customer customerToEdit = lastShownList.get(index.getZeroBased());
         Customer editedCustomer = createEditedPerson(customerToEdit, editPersonDescriptor);
-        LocalDate currentDate = LocalDate.now();
-        String currentMonth = String.valueOf(currentDate.getMonth().getValue());
-        if (editedCustomer.getTags().contains(BIRTHDAY_TAG)
-                && !editedCustomer.getBirthdayMonth().value.equals(currentMonth)) {
-            editedCustomer.removeBirthdayTag();
-        } else if (!editedCustomer.getTags().contains(BIRTHDAY_TAG)
-                && editedCustomer.getBirthdayMonth().value.equals(currentMonth)) {
-            editedCustomer.addBirthdayTag();
-        }
 
         Predicate<Customer> filterPersonToEdit = p -> !p.equals(customerToEdit);
         FilteredList<Customer> filteredListWithoutTarget = bobaBotModel.getBobaBot().getPersonList()
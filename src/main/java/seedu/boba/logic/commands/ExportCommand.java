@@ -0,0 +1,58 @@
+package seedu.boba.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.boba.logic.commands.exceptions.CommandException;
+import seedu.boba.model.BobaBotModel;
+import seedu.boba.storage.CsvBobaBotStorage;
+
+/**
+ * Writes all customers in bobaBot to a CSV file, which {@link ImportCommand} can read back.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes all customers to a CSV file, replacing the file if it exists.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/members.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d customers to %2$s";
+    public static final String MESSAGE_FILE_NOT_WRITTEN = "Could not write customers to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * @param filePath the CSV file to write the customers to
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(BobaBotModel bobaBotModel) throws CommandException {
+        requireNonNull(bobaBotModel);
+
+        try {
+            // An export is not a data file, so it is overwritten without keeping backups
+            new CsvBobaBotStorage(filePath, 0).saveBobaBot(bobaBotModel.getBobaBot());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_WRITTEN, filePath, ioe), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, bobaBotModel.getBobaBot().getPersonList().size(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)); // state check
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.boba.logic.commands;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
+import static seedu.boba.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.boba.model.BobaBotModel.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
@@ -14,6 +15,7 @@ import seedu.boba.model.BobaBotModel;
 import seedu.boba.model.customer.Customer;
 import seedu.boba.model.customer.Email;
 import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.RankedNameSearch;
 import seedu.boba.model.customer.exceptions.PersonNotFoundException;
 
 
@@ -28,10 +30,18 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "To list only the closest matches by name, best first, tolerating misspellings: "
+            + PREFIX_NAME + "NAME [MORE_NAMES]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alcie";
+
+    /** Ranked searches list at most this many customers, so that a common name does not flood the list. */
+    public static final int MAX_RANKED_RESULTS = 20;
 
     private final Predicate<Customer> predicate;
 
+    private RankedNameSearch rankedSearch;
+
     private Index targetIndex;
 
     private FindPersonDescriptor findPersonDescriptor;
@@ -50,6 +60,15 @@ public class FindCommand extends Command {
         this.findPersonDescriptor = findPersonDescriptor;
     }
 
+    /**
+     * Constructor for a FindCommand that lists the best matches of {@code rankedSearch}, best first.
+     */
+    public FindCommand(RankedNameSearch rankedSearch) {
+        requireNonNull(rankedSearch);
+        this.predicate = null;
+        this.rankedSearch = rankedSearch;
+    }
+
     @Override
     public CommandResult execute(BobaBotModel bobaBotModel) throws CommandException {
 
@@ -57,6 +76,9 @@ public class FindCommand extends Command {
         bobaBotModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         if (!isNull(predicate)) {
             bobaBotModel.updateFilteredPersonList(predicate);
+        } else if (!isNull(rankedSearch)) {
+            bobaBotModel.showRankedPersonList(
+                    rankedSearch.findTopMatches(bobaBotModel.getBobaBot().getPersonList(), MAX_RANKED_RESULTS));
         } else {
             try {
                 if (findPersonDescriptor.isPhoneEmpty) {
@@ -84,7 +106,11 @@ public class FindCommand extends Command {
 
     @Override
     public boolean equals(Object other) {
-        if (isNull(predicate) && isNull(findPersonDescriptor.getEmail())) {
+        if (!isNull(rankedSearch)) {
+            return other == this
+                    || (other instanceof FindCommand
+                    && rankedSearch.equals(((FindCommand) other).rankedSearch));
+        } else if (isNull(predicate) && isNull(findPersonDescriptor.getEmail())) {
             return other == this
                     || (other instanceof FindCommand
                     && findPersonDescriptor.getPhone().equals(((FindCommand) other).findPersonDescriptor.getPhone()));
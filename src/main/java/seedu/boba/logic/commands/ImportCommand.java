@@ -0,0 +1,89 @@
+package seedu.boba.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.logic.commands.exceptions.CommandException;
+import seedu.boba.model.BobaBotModel;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.customer.Email;
+import seedu.boba.model.customer.Phone;
+import seedu.boba.storage.CsvBobaBotStorage;
+
+/**
+ * Adds the customers in a CSV file to bobaBot.
+ * Customers that already exist in bobaBot are skipped, as are rows with the same phone number or email as an
+ * earlier row of the file. All the others are added as a single change, so they are saved once and undone together.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the customers in a CSV file, skipping those whose phone number or email already exists "
+            + "or appears in an earlier row. "
+            + "The file starts with the header row " + CsvBobaBotStorage.HEADER + "\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/members.csv";
+
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d customers from %2$s, skipped %3$d existing or repeated customers";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read customers from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * @param filePath the CSV file of customers to add
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(BobaBotModel bobaBotModel) throws CommandException {
+        requireNonNull(bobaBotModel);
+
+        List<Customer> imported;
+        try {
+            imported = new CsvBobaBotStorage(filePath).readCustomers()
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath)));
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, e.getCause().getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, ioe), ioe);
+        }
+
+        List<Customer> toAdd = new ArrayList<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Customer customer : imported) {
+            boolean isNewPhone = phones.add(customer.getPhone());
+            boolean isNewEmail = emails.add(customer.getEmail());
+            if (!isNewPhone || !isNewEmail || bobaBotModel.hasPerson(customer)) {
+                continue;
+            }
+            toAdd.add(customer);
+        }
+
+        bobaBotModel.addPersons(toAdd);
+        int skippedCount = imported.size() - toAdd.size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath, skippedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+
+}
@@ -0,0 +1,236 @@
+package seedu.boba.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.boba.model.BobaBotModel.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.boba.commons.core.Messages;
+import seedu.boba.commons.util.CsvUtil;
+import seedu.boba.logic.commands.exceptions.CommandException;
+import seedu.boba.model.BobaBotModel;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.customer.Email;
+import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.Reward;
+import seedu.boba.model.customer.exceptions.PersonNotFoundException;
+
+/**
+ * Applies a file of reward point changes, such as an end-of-day export from the point of sale system, to bobaBot.
+ * <p>
+ * Each row of the file is {@code PHONE_NUMBER_OR_EMAIL,DELTA}, where a positive delta increases and a negative delta
+ * decreases the customer's reward points. The whole file is read and parsed before any row is applied, so a file that
+ * cannot be read leaves bobaBot unchanged. A row that cannot be applied is reported without stopping the rest of the
+ * file. As this is a single command, all the changes are saved once and undone together.
+ */
+public class ImportPointsCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-points";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Applies the reward point changes in a CSV file. "
+            + "Each row holds the phone number or email of a customer, then the points to add to them "
+            + "(negative to deduct).\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/pos-export.csv";
+
+    public static final String MESSAGE_SUCCESS = "Applied %1$d of %2$d reward point changes from %3$s";
+    public static final String MESSAGE_ROW_FAILED = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROWS_FAILED = "...and %1$d more rows failed";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read reward point changes from %1$s: %2$s";
+    public static final String MESSAGE_INVALID_ROW = "Expected PHONE_NUMBER_OR_EMAIL,DELTA";
+    public static final String MESSAGE_INVALID_IDENTIFIER = "Not a phone number or email: %1$s";
+    public static final String MESSAGE_INVALID_DELTA = "Not a whole number of reward points: %1$s";
+
+    /** Failures beyond this many are counted but not listed, so that a bad file does not flood the result box. */
+    public static final int MAX_REPORTED_FAILURES = 20;
+
+    private final Path filePath;
+
+    /**
+     * @param filePath the CSV file of reward point changes
+     */
+    public ImportPointsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(BobaBotModel bobaBotModel) throws CommandException {
+        requireNonNull(bobaBotModel);
+        bobaBotModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        // Failures by row number, so that they are listed in file order whether found when parsing or applying
+        SortedMap<Integer, String> failures = new TreeMap<>();
+        List<PointChange> changes = new ArrayList<>();
+        int rowCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            int rowNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank() || (rowNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+
+                rowCount++;
+                try {
+                    changes.add(parseRow(rowNumber, line));
+                } catch (RowException e) {
+                    failures.put(rowNumber, e.getMessage());
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, ioe), ioe);
+        }
+
+        int appliedCount = 0;
+        for (PointChange change : changes) {
+            try {
+                applyChange(bobaBotModel, change);
+                appliedCount++;
+            } catch (RowException e) {
+                failures.put(change.rowNumber, e.getMessage());
+            }
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, appliedCount, rowCount, filePath));
+        failures.entrySet().stream().limit(MAX_REPORTED_FAILURES).forEach(failure -> feedback.append('\n')
+                .append(String.format(MESSAGE_ROW_FAILED, failure.getKey(), failure.getValue())));
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_ROWS_FAILED,
+                    failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Parses the reward point change in {@code row}, the {@code rowNumber}th row of the file.
+     *
+     * @throws RowException if the row is malformed.
+     */
+    private static PointChange parseRow(int rowNumber, String row) throws RowException {
+        List<String> values;
+        try {
+            values = CsvUtil.parseLine(row);
+        } catch (IllegalArgumentException e) {
+            throw new RowException(MESSAGE_INVALID_ROW);
+        }
+        if (values.size() != 2) {
+            throw new RowException(MESSAGE_INVALID_ROW);
+        }
+        String identifier = values.get(0);
+        String delta = values.get(1);
+
+        if (!Phone.isValidPhone(identifier) && !Email.isValidEmail(identifier)) {
+            throw new RowException(String.format(MESSAGE_INVALID_IDENTIFIER, identifier));
+        }
+        try {
+            return new PointChange(rowNumber, identifier, Long.parseLong(delta));
+        } catch (NumberFormatException e) {
+            throw new RowException(String.format(MESSAGE_INVALID_DELTA, delta));
+        }
+    }
+
+    /**
+     * Applies {@code change} to the customer it identifies.
+     *
+     * @throws RowException if the change cannot be applied.
+     */
+    private static void applyChange(BobaBotModel bobaBotModel, PointChange change) throws RowException {
+        String identifier = change.identifier;
+        long points = change.points;
+
+        int index;
+        try {
+            index = Phone.isValidPhone(identifier)
+                    ? bobaBotModel.findNum(new Phone(identifier))
+                    : bobaBotModel.findEmail(new Email(identifier));
+        } catch (PersonNotFoundException e) {
+            throw new RowException(Messages.MESSAGE_INVALID_PERSON_INFORMATION);
+        }
+
+        Customer customer = bobaBotModel.getBobaBot().getPersonList().get(index);
+        Reward reward = customer.getReward();
+        Reward newReward;
+        if (points >= 0) {
+            try {
+                newReward = reward.increaseBy(points);
+            } catch (ArithmeticException e) {
+                throw new RowException(Reward.MESSAGE_MAX_EXCEEDED);
+            }
+        } else {
+            if (points == Long.MIN_VALUE || -points > reward.value) {
+                throw new RowException(Reward.MESSAGE_NEGATIVE);
+            }
+            newReward = reward.decreaseBy(-points);
+        }
+
+        if (newReward != reward) {
+            bobaBotModel.setPerson(customer, new Customer(customer.getName(), customer.getPhone(),
+                    customer.getEmail(), customer.getBirthdayMonth(), newReward, customer.getTags()));
+        }
+    }
+
+    /**
+     * Returns true if {@code row} is a header row rather than a reward point change, i.e. it has no numeric delta.
+     */
+    private static boolean isHeader(String row) {
+        List<String> values;
+        try {
+            values = CsvUtil.parseLine(row);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (values.size() != 2) {
+            return false;
+        }
+
+        try {
+            Long.parseLong(values.get(1));
+            return false;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportPointsCommand // instanceof handles nulls
+                && filePath.equals(((ImportPointsCommand) other).filePath)); // state check
+    }
+
+    /**
+     * A reward point change parsed from a row of the file.
+     */
+    private static class PointChange {
+        private final int rowNumber;
+        private final String identifier;
+        private final long points;
+
+        PointChange(int rowNumber, String identifier, long points) {
+            this.rowNumber = rowNumber;
+            this.identifier = identifier;
+            this.points = points;
+        }
+    }
+
+    /**
+     * Signals that a row of the file could not be applied.
+     */
+    private static class RowException extends Exception {
+        RowException(String message) {
+            super(message);
+        }
+    }
+
+}
@@ -8,7 +8,6 @@ import java.util.NoSuchElementException;
 
 import seedu.boba.commons.core.Messages;
 import seedu.boba.logic.commands.exceptions.CommandException;
-import seedu.boba.logic.parser.ParserUtil;
 import seedu.boba.logic.parser.exceptions.ParseException;
 import seedu.boba.model.BobaBotModel;
 import seedu.boba.model.customer.Email;
@@ -31,7 +30,7 @@ public class IncreaseCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1000" + " p/98349032  or  "
             + COMMAND_WORD + " 500" + " e/example@gmail.com";
 
-    private String incrementReward;
+    private final long incrementReward;
 
     private Phone phoneIdentifier = null;
     private Email emailIdentifier = null;
@@ -46,7 +45,7 @@ public class IncreaseCommand extends Command {
         requireNonNull(phoneIdentifier);
 
         this.phoneIdentifier = phoneIdentifier;
-        this.incrementReward = rewardPoints;
+        this.incrementReward = Long.parseLong(rewardPoints);
     }
 
     /**
@@ -57,7 +56,7 @@ public class IncreaseCommand extends Command {
         requireNonNull(emailIdentifier);
 
         this.emailIdentifier = emailIdentifier;
-        this.incrementReward = rewardPoints;
+        this.incrementReward = Long.parseLong(rewardPoints);
     }
 
     @Override
@@ -69,15 +68,14 @@ public class IncreaseCommand extends Command {
             Reward currentReward = isNull(phoneIdentifier)
                     ? bobaBotModel.getCurrentReward(emailIdentifier)
                     : bobaBotModel.getCurrentReward(phoneIdentifier);
-            editPersonDescriptor.setReward(ParserUtil.parseReward(
-                    String.valueOf(Integer.parseInt(currentReward.value) + Integer.parseInt(incrementReward))));
+            editPersonDescriptor.setReward(currentReward.increaseBy(incrementReward));
             EditCommand editCommand = isNull(phoneIdentifier)
                     ? new EditCommand(emailIdentifier, editPersonDescriptor)
                     : new EditCommand(phoneIdentifier, editPersonDescriptor);
             return editCommand.execute(bobaBotModel);
         } catch (NoSuchElementException e) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_INFORMATION);
-        } catch (IllegalArgumentException e) {
+        } catch (ArithmeticException e) {
             throw new CommandException(Reward.MESSAGE_MAX_EXCEEDED);
         }
     }
@@ -98,7 +96,7 @@ public class IncreaseCommand extends Command {
         IncreaseCommand e = (IncreaseCommand) other;
         return (isNull(emailIdentifier) && phoneIdentifier.equals(e.phoneIdentifier)
                 || isNull(phoneIdentifier) && emailIdentifier.equals(e.emailIdentifier))
-                && incrementReward.equals(e.incrementReward)
+                && incrementReward == e.incrementReward
                 && editPersonDescriptor.equals(e.editPersonDescriptor);
     }
 }
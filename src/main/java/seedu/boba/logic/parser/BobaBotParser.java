@@ -15,8 +15,11 @@ import seedu.boba.logic.commands.DecreaseCommand;
 import seedu.boba.logic.commands.DeleteCommand;
 import seedu.boba.logic.commands.EditCommand;
 import seedu.boba.logic.commands.ExitCommand;
+import seedu.boba.logic.commands.ExportCommand;
 import seedu.boba.logic.commands.FindCommand;
 import seedu.boba.logic.commands.HelpCommand;
+import seedu.boba.logic.commands.ImportCommand;
+import seedu.boba.logic.commands.ImportPointsCommand;
 import seedu.boba.logic.commands.IncreaseCommand;
 import seedu.boba.logic.commands.ListCommand;
 import seedu.boba.logic.commands.RedoCommand;
@@ -62,6 +65,15 @@ public class BobaBotParser {
         case DecreaseCommand.COMMAND_WORD:
             return new DecreaseCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case ImportPointsCommand.COMMAND_WORD:
+            return new ImportPointsCommandParser().parse(arguments);
+
         case DeleteCommand.COMMAND_WORD:
             return new DeleteCommandParser().parse(arguments);
 
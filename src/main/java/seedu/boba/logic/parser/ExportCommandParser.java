@@ -0,0 +1,26 @@
+package seedu.boba.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.boba.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.boba.logic.commands.ExportCommand;
+import seedu.boba.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        return new ExportCommand(ParserUtil.parseFilePath(args));
+    }
+}
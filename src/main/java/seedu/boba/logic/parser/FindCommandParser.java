@@ -2,6 +2,7 @@ package seedu.boba.logic.parser;
 
 import static seedu.boba.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.boba.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.boba.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.Arrays;
@@ -12,6 +13,7 @@ import seedu.boba.logic.parser.exceptions.ParseException;
 import seedu.boba.model.customer.Email;
 import seedu.boba.model.customer.MultiSearchPredicate;
 import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.RankedNameSearch;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -26,9 +28,13 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         try {
             ArgumentMultimap argMultimap =
-                    ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL);
+                    ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_NAME);
             FindCommand.FindPersonDescriptor findPersonDescriptor = new FindCommand.FindPersonDescriptor();
 
+            if (arePrefixesPresent(argMultimap, PREFIX_NAME)) {
+                return parseRankedSearch(argMultimap);
+            }
+
             boolean isBothEmpty = !arePrefixesPresent(argMultimap, PREFIX_PHONE)
                     && !arePrefixesPresent(argMultimap, PREFIX_EMAIL);
             boolean isBothFilled = arePrefixesPresent(argMultimap, PREFIX_PHONE)
@@ -65,6 +71,19 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
     }
 
+    /**
+     * Parses the names to rank customers by, which must be the only argument given.
+     */
+    private static FindCommand parseRankedSearch(ArgumentMultimap argMultimap) throws ParseException {
+        String names = argMultimap.getValue(PREFIX_NAME).get().trim();
+        if (names.isEmpty() || !argMultimap.getPreamble().isEmpty()
+                || argMultimap.getAllValues(PREFIX_NAME).size() != 1
+                || arePrefixesPresent(argMultimap, PREFIX_PHONE) || arePrefixesPresent(argMultimap, PREFIX_EMAIL)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new RankedNameSearch(Arrays.asList(names.split("\\s+"))));
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -0,0 +1,26 @@
+package seedu.boba.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.boba.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.boba.logic.commands.ImportPointsCommand;
+import seedu.boba.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportPointsCommand object
+ */
+public class ImportPointsCommandParser implements Parser<ImportPointsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportPointsCommand
+     * and returns an ImportPointsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportPointsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportPointsCommand.MESSAGE_USAGE));
+        }
+        return new ImportPointsCommand(ParserUtil.parseFilePath(args));
+    }
+}
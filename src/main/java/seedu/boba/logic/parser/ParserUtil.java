@@ -2,6 +2,9 @@ package seedu.boba.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -22,6 +25,7 @@ import seedu.boba.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid: %1$s";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -36,6 +40,23 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code filePath} into a {@code Path} and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code filePath} is blank or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmedFilePath));
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmedFilePath));
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -78,14 +99,16 @@ public class ParserUtil {
         if (!BirthdayMonth.isValidBirthdayMonth(trimmedBirthdayMonth)) {
             throw new ParseException(BirthdayMonth.MESSAGE_CONSTRAINTS);
         }
-        return new BirthdayMonth(trimmedBirthdayMonth);
+        return BirthdayMonth.of(trimmedBirthdayMonth);
     }
 
     /**
      * Parses a {@code String reward} into an {@code Reward}.
      * Leading and trailing whitespaces will be trimmed.
+     * Reward points that are keyed in must fit in an int, even though a balance can grow beyond that.
      *
      * @throws ParseException if the given {@code reward} is invalid.
+     * @throws NumberFormatException if the given {@code reward} is not an integer within the int range.
      */
     public static Reward parseReward(String reward) throws ParseException {
         requireNonNull(reward);
@@ -93,7 +116,11 @@ public class ParserUtil {
         if (!Reward.isValidReward(trimmedReward)) {
             throw new ParseException(Reward.MESSAGE_CONSTRAINTS);
         }
-        return new Reward(trimmedReward);
+        int points = Integer.parseInt(trimmedReward);
+        if (points < 0) {
+            throw new ParseException(Reward.MESSAGE_CONSTRAINTS);
+        }
+        return new Reward(points);
     }
 
     /**
@@ -123,7 +150,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
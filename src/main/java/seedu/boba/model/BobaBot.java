@@ -3,10 +3,13 @@ package seedu.boba.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.boba.commons.core.PersistentList;
 import seedu.boba.model.customer.Customer;
 import seedu.boba.model.customer.Email;
+import seedu.boba.model.customer.IndexedPredicate;
 import seedu.boba.model.customer.Phone;
 import seedu.boba.model.customer.Reward;
 import seedu.boba.model.customer.UniqueCustomerList;
@@ -57,9 +60,34 @@ public class BobaBot implements ReadOnlyBobaBot {
     public void resetData(ReadOnlyBobaBot newData) {
         requireNonNull(newData);
 
+        if (newData instanceof BobaBot) {
+            restoreData((BobaBot) newData);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Resets the existing data of this {@code BobaBot} with the data of another {@code BobaBot}.
+     * As every {@code BobaBot} already holds unique customers only, the customers of {@code snapshot}
+     * are taken over without being checked for duplicates again.
+     */
+    public void restoreData(BobaBot snapshot) {
+        requireNonNull(snapshot);
+
+        persons.setPersons(snapshot.persons);
+    }
+
+    /**
+     * Resets the existing data of this {@code BobaBot} with a snapshot previously taken with
+     * {@link #getPersonSnapshot()}. The customers of {@code snapshot} are not checked for duplicates again.
+     */
+    void restoreData(PersistentList<Customer> snapshot) {
+        requireNonNull(snapshot);
+
+        persons.setPersons(snapshot);
+    }
+
     //// customer-level operations
 
     /**
@@ -78,6 +106,22 @@ public class BobaBot implements ReadOnlyBobaBot {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code customers} to the end of the address book, as a single change.
+     * None of them may already exist in the address book, and {@code customers} must not contain duplicates.
+     */
+    public void addPersons(List<Customer> customers) {
+        persons.addAll(customers);
+    }
+
+    /**
+     * Adds a customer to the address book at position {@code index}.
+     * The customer must not already exist in the address book.
+     */
+    public void addPerson(int index, Customer p) {
+        persons.add(index, p);
+    }
+
     /**
      * Replaces the given customer {@code target} in the list with {@code editedCustomer}.
      * {@code target} must exist in the address book.
@@ -111,6 +155,21 @@ public class BobaBot implements ReadOnlyBobaBot {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the number of changes made to the customer list so far.
+     * Two equal counts taken from the same {@code BobaBot} mean that it has not been changed in between.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
+
+    /**
+     * Returns an immutable snapshot of the customer list, which shares structure with earlier snapshots.
+     */
+    public PersistentList<Customer> getPersonSnapshot() {
+        return persons.asPersistentList();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -134,6 +193,14 @@ public class BobaBot implements ReadOnlyBobaBot {
         return persons.hashCode();
     }
 
+    /**
+     * Returns the index of the customer with the same phone number or email as {@code customer},
+     * or -1 if there is no such customer.
+     */
+    public int indexOf(Customer customer) {
+        return persons.indexOf(customer);
+    }
+
     /**
      * Returns the index of the customer with the same phone number.
      *
@@ -175,4 +242,14 @@ public class BobaBot implements ReadOnlyBobaBot {
     public Reward getCurrentReward(Email email) {
         return persons.getCurrentReward(email);
     }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that finds its matches through the indexes of the
+     * customer list.
+     *
+     * @see UniqueCustomerList#resolve(IndexedPredicate)
+     */
+    public Predicate<Customer> resolve(IndexedPredicate predicate) {
+        return persons.resolve(predicate);
+    }
 }
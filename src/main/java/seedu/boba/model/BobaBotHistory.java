@@ -0,0 +1,56 @@
+package seedu.boba.model;
+
+import seedu.boba.commons.core.PersistentList;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.exceptions.NextStateNotFoundException;
+import seedu.boba.model.exceptions.PreviousStateNotFoundException;
+
+/**
+ * Keeps track of the states of a BobaBot across commands so that they can be undone and redone.
+ * The {@code record} methods are notified of every change made to the BobaBot in between two commits.
+ */
+public interface BobaBotHistory {
+
+    /**
+     * Saves the current BobaBot state in its history.
+     *
+     * @param bobaBot BobaBot to save
+     */
+    void commit(BobaBot bobaBot);
+
+    /**
+     * Restores the previous BobaBot state from its history.
+     *
+     * @param currentBobaBot BobaBot to set to the previous state
+     * @throws PreviousStateNotFoundException if there is no previous state
+     */
+    void undo(BobaBot currentBobaBot) throws PreviousStateNotFoundException;
+
+    /**
+     * Restores the previously undone BobaBot state from its history.
+     *
+     * @param currentBobaBot BobaBot to set to the before undone state
+     * @throws NextStateNotFoundException if there is no undone state
+     */
+    void redo(BobaBot currentBobaBot) throws NextStateNotFoundException;
+
+    /**
+     * Notifies the history that {@code added} was inserted at position {@code index}.
+     */
+    default void recordAdd(int index, Customer added) {}
+
+    /**
+     * Notifies the history that {@code removed} was removed from position {@code index}.
+     */
+    default void recordRemove(int index, Customer removed) {}
+
+    /**
+     * Notifies the history that {@code previous} was replaced by {@code current}.
+     */
+    default void recordSet(Customer previous, Customer current) {}
+
+    /**
+     * Notifies the history that the whole customer list {@code previous} was replaced by {@code current}.
+     */
+    default void recordReset(PersistentList<Customer> previous, PersistentList<Customer> current) {}
+}
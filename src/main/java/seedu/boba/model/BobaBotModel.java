@@ -1,6 +1,7 @@
 package seedu.boba.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -76,6 +77,12 @@ public interface BobaBotModel {
      */
     void addPerson(Customer customer);
 
+    /**
+     * Adds the given customers as a single change.
+     * None of {@code customers} may already exist in the address book, or share an identity with another of them.
+     */
+    void addPersons(List<Customer> customers);
+
     /**
      * Replaces the given customer {@code target} with {@code editedCustomer}.
      * {@code target} must exist in the address book.
@@ -93,6 +100,13 @@ public interface BobaBotModel {
      */
     void updateFilteredPersonList(Predicate<Customer> predicate);
 
+    /**
+     * Shows only the customers in {@code rankedCustomers} in the filtered customer list, in the same order, until the
+     * list is next filtered with {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code rankedCustomers} is or contains null.
+     */
+    void showRankedPersonList(List<Customer> rankedCustomers);
+
     /**
      * Returns the index of the customer with the same phone number.
      *
@@ -142,21 +156,44 @@ public interface BobaBotModel {
     void parseAllPromotion(String filePath);
 
     /**
-     * Stores the current version of bobaBot into VersionedBobaBot.
+     * Stores the current version of bobaBot into its history.
      */
     void commitBobaBot();
 
     /**
-     * Retrieves the previous state/version of bobaBot from VersionedBobaBot.
+     * Retrieves the previous state/version of bobaBot from its history.
      *
      * @throws PreviousStateNotFoundException if bobaBot is in the initialised state
      */
     void undoBobaBot() throws PreviousStateNotFoundException;
 
     /**
-     * Retrieves the state/version of bobaBot before the undoCommand from VersionedBobaBot.
+     * Retrieves the state/version of bobaBot before the undoCommand from its history.
      *
      * @throws NextStateNotFoundException if bobaBot is in the most updated state.
      */
     void redoBobaBot() throws NextStateNotFoundException;
+
+    /**
+     * Returns true if bobaBot has been changed since it was last marked as being saved, or if that save failed.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Marks the current version of bobaBot as being saved, and returns that version, to be passed to
+     * {@link #markBobaBotSaved(long)} once it has been written.
+     */
+    long markBobaBotSaving();
+
+    /**
+     * Marks the given version of bobaBot, and every version before it, as written.
+     * Can be called from any thread.
+     */
+    void markBobaBotSaved(long version);
+
+    /**
+     * Marks the saves of bobaBot that have not been written yet as failed, so that bobaBot has unsaved changes again
+     * unless its current version has already been written.
+     */
+    void markBobaBotSaveFailed();
 }
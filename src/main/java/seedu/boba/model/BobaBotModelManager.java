@@ -4,17 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.boba.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.scene.image.Image;
 import seedu.boba.commons.core.GuiSettings;
 import seedu.boba.commons.core.LogsCenter;
+import seedu.boba.commons.core.PersistentList;
 import seedu.boba.model.customer.Customer;
 import seedu.boba.model.customer.Email;
+import seedu.boba.model.customer.IndexedPredicate;
 import seedu.boba.model.customer.Phone;
 import seedu.boba.model.customer.Reward;
 import seedu.boba.model.customer.exceptions.PersonNotFoundException;
@@ -28,12 +35,22 @@ import seedu.boba.model.promotion.Promotion;
 public class BobaBotModelManager implements BobaBotModel {
     private static final Logger logger = LogsCenter.getLogger(BobaBotModelManager.class);
 
-    private final VersionedBobaBot versionedBobaBot;
+    private final BobaBotHistory bobaBotHistory;
     private final BobaBot bobaBot;
     private final UserPrefs userPrefs;
     private final FilteredList<Customer> filteredCustomers;
+    private final SortedList<Customer> sortedCustomers;
     private final Promotion promotionManager;
 
+    // Modification count of bobaBot when its state was last committed to or restored from its history
+    private long committedModificationCount;
+
+    // Modification count of bobaBot when it was last marked as being saved
+    private long savingModificationCount;
+
+    // Modification count of the latest version of bobaBot known to have been written, updated by the writer thread
+    private final AtomicLong savedModificationCount;
+
     /**
      * Initializes a BobaBotModelManager with the given bobaBot and userPrefs.
      */
@@ -41,21 +58,17 @@ public class BobaBotModelManager implements BobaBotModel {
         requireAllNonNull(bobaBot, userPrefs);
 
         logger.fine("Initializing with bobaBot: " + bobaBot + " and user prefs " + userPrefs);
-        LocalDate currentDate = LocalDate.now();
-        String currentMonth = String.valueOf(currentDate.getMonth().getValue());
-
-        for (Customer customer : bobaBot.getPersonList()) {
-            if (customer.getBirthdayMonth().value.equals(currentMonth)) {
-                customer.addBirthdayTag();
-            } else {
-                customer.removeBirthdayTag();
-            }
-        }
         this.bobaBot = new BobaBot(bobaBot);
-        this.versionedBobaBot = new VersionedBobaBot(bobaBot);
+        this.bobaBotHistory = userPrefs.getUndoMode() == UndoMode.DELTA
+                ? new DeltaBobaBotHistory()
+                : new VersionedBobaBot(bobaBot);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredCustomers = new FilteredList<>(this.bobaBot.getPersonList());
+        sortedCustomers = new SortedList<>(filteredCustomers);
         this.promotionManager = new Promotion();
+        this.committedModificationCount = this.bobaBot.getModificationCount();
+        this.savingModificationCount = this.bobaBot.getModificationCount();
+        this.savedModificationCount = new AtomicLong(this.bobaBot.getModificationCount());
     }
 
     public BobaBotModelManager() {
@@ -101,7 +114,9 @@ public class BobaBotModelManager implements BobaBotModel {
 
     @Override
     public void setBobaBot(ReadOnlyBobaBot bobaBot) {
+        PersistentList<Customer> previous = this.bobaBot.getPersonSnapshot();
         this.bobaBot.resetData(bobaBot);
+        bobaBotHistory.recordReset(previous, this.bobaBot.getPersonSnapshot());
     }
 
     @Override
@@ -117,12 +132,28 @@ public class BobaBotModelManager implements BobaBotModel {
 
     @Override
     public void deletePerson(Customer target) {
-        bobaBot.removePerson(target);
+        int index = bobaBot.indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Customer removed = bobaBot.getPersonList().get(index);
+        bobaBot.removePerson(removed);
+        bobaBotHistory.recordRemove(index, removed);
     }
 
     @Override
     public void addPerson(Customer customer) {
         bobaBot.addPerson(customer);
+        bobaBotHistory.recordAdd(bobaBot.getPersonList().size() - 1, customer);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Customer> customers) {
+        requireAllNonNull(customers);
+        PersistentList<Customer> previous = bobaBot.getPersonSnapshot();
+        bobaBot.addPersons(customers);
+        bobaBotHistory.recordReset(previous, bobaBot.getPersonSnapshot());
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -130,35 +161,69 @@ public class BobaBotModelManager implements BobaBotModel {
     public void setPerson(Customer target, Customer editedCustomer) {
         requireAllNonNull(target, editedCustomer);
 
-        bobaBot.setPerson(target, editedCustomer);
+        int index = bobaBot.indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Customer previous = bobaBot.getPersonList().get(index);
+        bobaBot.setPerson(previous, editedCustomer);
+        bobaBotHistory.recordSet(previous, editedCustomer);
     }
 
     /**
-     * Stores the current version of bobaBot into VersionedBobaBot.
+     * Stores the current version of bobaBot into its history.
+     * Returns immediately if bobaBot has not been changed since its state was last committed.
      */
     @Override
     public void commitBobaBot() {
-        versionedBobaBot.commit(this.bobaBot);
+        if (bobaBot.getModificationCount() == committedModificationCount) {
+            return;
+        }
+        bobaBotHistory.commit(this.bobaBot);
+        committedModificationCount = bobaBot.getModificationCount();
     }
 
     /**
-     * Retrieves the previous state/version of bobaBot from VersionedBobaBot.
+     * Retrieves the previous state/version of bobaBot from its history.
      *
      * @throws PreviousStateNotFoundException if bobaBot is in the initialised state
      */
     @Override
     public void undoBobaBot() throws PreviousStateNotFoundException {
-        versionedBobaBot.undo(this.bobaBot);
+        bobaBotHistory.undo(this.bobaBot);
+        committedModificationCount = bobaBot.getModificationCount();
     }
 
     /**
-     * Retrieves the state/version of bobaBot before the undoCommand from VersionedBobaBot.
+     * Retrieves the state/version of bobaBot before the undoCommand from its history.
      *
      * @throws NextStateNotFoundException if bobaBot is in the most updated state.
      */
     @Override
     public void redoBobaBot() throws NextStateNotFoundException {
-        versionedBobaBot.redo(this.bobaBot);
+        bobaBotHistory.redo(this.bobaBot);
+        committedModificationCount = bobaBot.getModificationCount();
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return bobaBot.getModificationCount() != savingModificationCount;
+    }
+
+    @Override
+    public long markBobaBotSaving() {
+        savingModificationCount = bobaBot.getModificationCount();
+        return savingModificationCount;
+    }
+
+    @Override
+    public void markBobaBotSaved(long version) {
+        savedModificationCount.accumulateAndGet(version, Math::max);
+    }
+
+    @Override
+    public void markBobaBotSaveFailed() {
+        savingModificationCount = savedModificationCount.get();
     }
 
     /**
@@ -219,13 +284,33 @@ public class BobaBotModelManager implements BobaBotModel {
      */
     @Override
     public ObservableList<Customer> getFilteredPersonList() {
-        return filteredCustomers;
+        return sortedCustomers;
     }
 
+    /**
+     * Filters the customer list with {@code predicate}, in the order of bobaBot. If it is an {@code IndexedPredicate},
+     * its matches are found through the indexes of bobaBot rather than by testing every customer.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Customer> predicate) {
         requireNonNull(predicate);
-        filteredCustomers.setPredicate(predicate);
+        sortedCustomers.setComparator(null);
+        if (predicate instanceof IndexedPredicate) {
+            filteredCustomers.setPredicate(bobaBot.resolve((IndexedPredicate) predicate));
+        } else {
+            filteredCustomers.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public void showRankedPersonList(List<Customer> rankedCustomers) {
+        requireAllNonNull(rankedCustomers);
+        Map<Customer, Integer> ranks = new IdentityHashMap<>();
+        for (Customer customer : rankedCustomers) {
+            ranks.putIfAbsent(customer, ranks.size());
+        }
+        filteredCustomers.setPredicate(ranks::containsKey);
+        sortedCustomers.setComparator(Comparator.comparingInt(ranks::get));
     }
 
     /**
@@ -264,6 +349,6 @@ public class BobaBotModelManager implements BobaBotModel {
         BobaBotModelManager other = (BobaBotModelManager) obj;
         return bobaBot.equals(other.bobaBot)
                 && userPrefs.equals(other.userPrefs)
-                && filteredCustomers.equals(other.filteredCustomers);
+                && sortedCustomers.equals(other.sortedCustomers);
     }
 }
@@ -0,0 +1,20 @@
+package seedu.boba.model;
+
+/**
+ * Formats available for storing the bobaBot data file.
+ */
+public enum DataFileFormat {
+    /** Rewrites the whole data file as json on every save. */
+    JSON,
+    /**
+     * Appends the changes made by every save to a journal next to the json data file, and only rewrites the data
+     * file when compacting the journal. The data file alone may be out of date, so switch back to {@code JSON}
+     * only after the journal has been compacted.
+     */
+    JOURNAL,
+    /**
+     * Rewrites the whole data file in a compact binary format on every save. Existing json data files can be
+     * converted with {@code seedu.boba.storage.BobaBotFileConverter}.
+     */
+    BINARY
+}
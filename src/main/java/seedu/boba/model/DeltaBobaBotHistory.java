@@ -0,0 +1,224 @@
+package seedu.boba.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+import seedu.boba.commons.core.PersistentList;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.exceptions.NextStateNotFoundException;
+import seedu.boba.model.exceptions.PreviousStateNotFoundException;
+
+/**
+ * Keeps track of the history of the BobaBot as a log of the changes made by each successful command.
+ * Undoing a command reverts its changes one by one and redoing it applies them again, so both take time
+ * proportional to the number of customers the command changed rather than to the size of the BobaBot.
+ */
+public class DeltaBobaBotHistory implements BobaBotHistory {
+    // Maximum number of commands that can be undone
+    public static final int DEFAULT_STEP_LIMIT = 1000;
+
+    private final int stepLimit;
+
+    // Changes recorded since the last commit
+    private List<Change> pendingChanges = new ArrayList<>();
+
+    // Changes of each committed command, most recent first
+    private final Deque<List<Change>> undoableSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoableSteps = new ArrayDeque<>();
+
+    /**
+     * Creates a {@code DeltaBobaBotHistory} that keeps up to {@link #DEFAULT_STEP_LIMIT} commands.
+     */
+    public DeltaBobaBotHistory() {
+        this(DEFAULT_STEP_LIMIT);
+    }
+
+    /**
+     * Creates a {@code DeltaBobaBotHistory}.
+     *
+     * @param stepLimit maximum number of commands that can be undone
+     */
+    public DeltaBobaBotHistory(int stepLimit) {
+        assert stepLimit > 0;
+        this.stepLimit = stepLimit;
+    }
+
+    /**
+     * Saves the changes recorded since the last commit as one undoable step.
+     * Nothing is saved if no changes were recorded.
+     *
+     * @param bobaBot BobaBot the changes were made to
+     */
+    @Override
+    public void commit(BobaBot bobaBot) {
+        requireNonNull(bobaBot);
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        undoableSteps.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoableSteps.clear();
+        if (undoableSteps.size() > stepLimit) {
+            undoableSteps.removeLast();
+        }
+    }
+
+    @Override
+    public void undo(BobaBot currentBobaBot) throws PreviousStateNotFoundException {
+        requireNonNull(currentBobaBot);
+        if (undoableSteps.isEmpty()) {
+            throw new PreviousStateNotFoundException();
+        }
+        List<Change> step = undoableSteps.pop();
+        ListIterator<Change> changes = step.listIterator(step.size());
+        while (changes.hasPrevious()) {
+            changes.previous().revert(currentBobaBot);
+        }
+        redoableSteps.push(step);
+    }
+
+    @Override
+    public void redo(BobaBot currentBobaBot) throws NextStateNotFoundException {
+        requireNonNull(currentBobaBot);
+        if (redoableSteps.isEmpty()) {
+            throw new NextStateNotFoundException();
+        }
+        List<Change> step = redoableSteps.pop();
+        for (Change change : step) {
+            change.apply(currentBobaBot);
+        }
+        undoableSteps.push(step);
+    }
+
+    @Override
+    public void recordAdd(int index, Customer added) {
+        pendingChanges.add(new AddChange(index, added));
+    }
+
+    @Override
+    public void recordRemove(int index, Customer removed) {
+        pendingChanges.add(new RemoveChange(index, removed));
+    }
+
+    @Override
+    public void recordSet(Customer previous, Customer current) {
+        if (!previous.strictlyEquals(current)) {
+            pendingChanges.add(new SetChange(previous, current));
+        }
+    }
+
+    @Override
+    public void recordReset(PersistentList<Customer> previous, PersistentList<Customer> current) {
+        if (previous != current) {
+            pendingChanges.add(new ResetChange(previous, current));
+        }
+    }
+
+    /**
+     * Gets the number of commands that can currently be undone.
+     */
+    public int getUndoableStepCount() {
+        return undoableSteps.size();
+    }
+
+    /**
+     * Gets the number of commands that can currently be redone.
+     */
+    public int getRedoableStepCount() {
+        return redoableSteps.size();
+    }
+
+    /**
+     * A change made to a BobaBot, which knows how to make and unmake itself.
+     */
+    private interface Change {
+        void apply(BobaBot bobaBot);
+
+        void revert(BobaBot bobaBot);
+    }
+
+    private static class AddChange implements Change {
+        private final int index;
+        private final Customer added;
+
+        AddChange(int index, Customer added) {
+            this.index = index;
+            this.added = added;
+        }
+
+        @Override
+        public void apply(BobaBot bobaBot) {
+            bobaBot.addPerson(index, added);
+        }
+
+        @Override
+        public void revert(BobaBot bobaBot) {
+            bobaBot.removePerson(added);
+        }
+    }
+
+    private static class RemoveChange implements Change {
+        private final int index;
+        private final Customer removed;
+
+        RemoveChange(int index, Customer removed) {
+            this.index = index;
+            this.removed = removed;
+        }
+
+        @Override
+        public void apply(BobaBot bobaBot) {
+            bobaBot.removePerson(removed);
+        }
+
+        @Override
+        public void revert(BobaBot bobaBot) {
+            bobaBot.addPerson(index, removed);
+        }
+    }
+
+    private static class SetChange implements Change {
+        private final Customer previous;
+        private final Customer current;
+
+        SetChange(Customer previous, Customer current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        @Override
+        public void apply(BobaBot bobaBot) {
+            bobaBot.setPerson(previous, current);
+        }
+
+        @Override
+        public void revert(BobaBot bobaBot) {
+            bobaBot.setPerson(current, previous);
+        }
+    }
+
+    private static class ResetChange implements Change {
+        private final PersistentList<Customer> previous;
+        private final PersistentList<Customer> current;
+
+        ResetChange(PersistentList<Customer> previous, PersistentList<Customer> current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        @Override
+        public void apply(BobaBot bobaBot) {
+            bobaBot.restoreData(current);
+        }
+
+        @Override
+        public void revert(BobaBot bobaBot) {
+            bobaBot.restoreData(previous);
+        }
+    }
+}
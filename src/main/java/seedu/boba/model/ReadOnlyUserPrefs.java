@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getBobaBotFilePath();
 
+    UndoMode getUndoMode();
+
+    DataFileFormat getDataFileFormat();
+
 }
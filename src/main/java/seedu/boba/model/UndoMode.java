@@ -0,0 +1,11 @@
+package seedu.boba.model;
+
+/**
+ * Strategies available for keeping track of the history of bobaBot for undo and redo.
+ */
+public enum UndoMode {
+    /** Stores a snapshot of the customer list after every command, see {@link VersionedBobaBot}. */
+    SNAPSHOT,
+    /** Stores the individual changes made by every command, see {@link DeltaBobaBotHistory}. */
+    DELTA
+}
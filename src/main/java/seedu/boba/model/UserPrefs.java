@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path bobaBotFilePath = Paths.get("data" , "bobabot.json");
+    private UndoMode undoMode = UndoMode.SNAPSHOT;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setBobaBotFilePath(newUserPrefs.getBobaBotFilePath());
+        setUndoMode(newUserPrefs.getUndoMode());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.bobaBotFilePath = bobaBotFilePath;
     }
 
+    public UndoMode getUndoMode() {
+        return undoMode;
+    }
+
+    public void setUndoMode(UndoMode undoMode) {
+        requireNonNull(undoMode);
+        this.undoMode = undoMode;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +90,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && bobaBotFilePath.equals(o.bobaBotFilePath);
+                && bobaBotFilePath.equals(o.bobaBotFilePath)
+                && undoMode == o.undoMode
+                && dataFileFormat == o.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, bobaBotFilePath);
+        return Objects.hash(guiSettings, bobaBotFilePath, undoMode, dataFileFormat);
     }
 
     @Override
@@ -81,6 +105,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + bobaBotFilePath);
+        sb.append("\nUndo mode : " + undoMode);
+        sb.append("\nData file format : " + dataFileFormat);
         return sb.toString();
     }
 
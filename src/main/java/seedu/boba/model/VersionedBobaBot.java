@@ -3,15 +3,20 @@ package seedu.boba.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.stream.Collectors;
 
+import seedu.boba.commons.core.PersistentList;
+import seedu.boba.model.customer.Customer;
 import seedu.boba.model.exceptions.NextStateNotFoundException;
 import seedu.boba.model.exceptions.PreviousStateNotFoundException;
 
 /**
  * Keeps track of the current state of the BobaBot by storing multiple
  * versions of the BobaBot after each successful command.
+ * Each version is an immutable snapshot of the customer list that shares structure with the other versions,
+ * so a version costs memory proportional to the customers changed by the command that produced it.
  */
-public class VersionedBobaBot extends BobaBot {
+public class VersionedBobaBot extends BobaBot implements BobaBotHistory {
     // Keeps track of the current version of BobaBot
     private int currentStatePointer;
 
@@ -19,7 +24,7 @@ public class VersionedBobaBot extends BobaBot {
     private int sizeLimit;
 
     // Stores the different versions of BobaBot
-    private ArrayList<ReadOnlyBobaBot> bobaBotStateList = new ArrayList<>();
+    private ArrayList<PersistentList<Customer>> bobaBotStateList = new ArrayList<>();
 
     /**
      * Creates an instance of VersionedBobaBot.
@@ -30,7 +35,7 @@ public class VersionedBobaBot extends BobaBot {
         assert bobaBot != null;
         this.currentStatePointer = 0;
         this.sizeLimit = 20; // Default value
-        bobaBotStateList.add(this.currentStatePointer, bobaBot);
+        bobaBotStateList.add(this.currentStatePointer, new BobaBot(bobaBot).getPersonSnapshot());
     }
 
     /**
@@ -43,7 +48,7 @@ public class VersionedBobaBot extends BobaBot {
         assert bobaBot != null;
         this.currentStatePointer = 0;
         this.sizeLimit = stepLimit; // Default value
-        bobaBotStateList.add(this.currentStatePointer, bobaBot);
+        bobaBotStateList.add(this.currentStatePointer, new BobaBot(bobaBot).getPersonSnapshot());
     }
 
     private void trimStateList() {
@@ -61,26 +66,37 @@ public class VersionedBobaBot extends BobaBot {
      *
      * @param bobaBot BobaBot to save
      */
+    @Override
     public void commit(BobaBot bobaBot) {
         requireNonNull(bobaBot);
-        BobaBot copiedBobaBot = new BobaBot(bobaBot);
-        if (!copiedBobaBot.strictlyEquals(this.bobaBotStateList.get(this.currentStatePointer))) {
+        PersistentList<Customer> snapshot = bobaBot.getPersonSnapshot();
+        if (!isSameState(snapshot, this.bobaBotStateList.get(this.currentStatePointer))) {
             // prune away all previously stored redoable steps
             for (int i = currentStatePointer + 1; i < this.bobaBotStateList.size(); i++) {
                 this.bobaBotStateList.remove(currentStatePointer + 1);
             }
-            this.bobaBotStateList.add(copiedBobaBot);
+            this.bobaBotStateList.add(snapshot);
             this.currentStatePointer++;
         }
         this.trimStateList();
     }
 
+    /**
+     * Returns true if both snapshots are known to hold the same customers, in constant time.
+     * A snapshot is only replaced when the customer list is changed, and replacing a customer with a strictly equal
+     * one does not change the list, so snapshots that are not the same object are taken to differ.
+     */
+    private static boolean isSameState(PersistentList<Customer> snapshot, PersistentList<Customer> otherSnapshot) {
+        return snapshot == otherSnapshot || (snapshot.isEmpty() && otherSnapshot.isEmpty());
+    }
+
     /**
      * Restores the previous BobaBot state from its history.
      *
      * @param currentBobaBot BobaBot to set to the previous state
      * @throws PreviousStateNotFoundException if currentStatePointer is at the initialised state
      */
+    @Override
     public void undo(BobaBot currentBobaBot) throws PreviousStateNotFoundException {
         requireNonNull(currentBobaBot);
 
@@ -88,7 +104,7 @@ public class VersionedBobaBot extends BobaBot {
             throw new PreviousStateNotFoundException();
         }
         this.currentStatePointer--;
-        currentBobaBot.resetData(this.bobaBotStateList.get(this.currentStatePointer));
+        currentBobaBot.restoreData(this.bobaBotStateList.get(this.currentStatePointer));
     }
 
     /**
@@ -97,6 +113,7 @@ public class VersionedBobaBot extends BobaBot {
      * @param currentBobaBot BobaBot to set to the before undone state
      * @throws NextStateNotFoundException if currentStatePointer is at the most updated state
      */
+    @Override
     public void redo(BobaBot currentBobaBot) throws NextStateNotFoundException {
         requireNonNull(currentBobaBot);
 
@@ -105,7 +122,7 @@ public class VersionedBobaBot extends BobaBot {
             throw new NextStateNotFoundException();
         }
         this.currentStatePointer++;
-        currentBobaBot.resetData(this.bobaBotStateList.get(this.currentStatePointer));
+        currentBobaBot.restoreData(this.bobaBotStateList.get(this.currentStatePointer));
     }
 
     /**
@@ -151,6 +168,8 @@ public class VersionedBobaBot extends BobaBot {
         return "VersionedBobaBot: \n"
                 + "    size limit: " + this.sizeLimit + "\n"
                 + "    current pointer: " + this.currentStatePointer + "\n"
-                + this.bobaBotStateList.toString();
+                + this.bobaBotStateList.stream()
+                        .map(state -> state.size() + " persons")
+                        .collect(Collectors.joining(", ", "[", "]"));
     }
 }
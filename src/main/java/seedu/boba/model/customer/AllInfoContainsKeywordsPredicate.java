@@ -1,14 +1,24 @@
 package seedu.boba.model.customer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 
 /**
- * Tests that a {@code Customer}'s {@code Name} matches any of the keywords given.
+ * Tests that any of the details of a {@code Customer} contains any of the keywords given, ignoring case.
+ * The keywords cannot contain whitespace, so a keyword can only be found within a single word of the details, and
+ * matching customers can be looked up by the words of their details.
  */
-public class AllInfoContainsKeywordsPredicate implements Predicate<Customer> {
+public class AllInfoContainsKeywordsPredicate implements IndexedPredicate {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords = new ArrayList<>();
 
     /**
      * Constructor for this class
@@ -20,19 +30,42 @@ public class AllInfoContainsKeywordsPredicate implements Predicate<Customer> {
             throw new RuntimeException("Keyword list cannot be null");
         }
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            lowerCaseKeywords.add(keyword.toLowerCase());
+        }
     }
 
     @Override
     public boolean test(Customer customer) {
-        String allInfo = customer.getAllInfo();
-        for (String s : keywords) {
-            if (allInfo.toLowerCase().contains(s.toLowerCase())) {
+        String searchKey = customer.getSearchKey();
+        for (String keyword : lowerCaseKeywords) {
+            if (searchKey.contains(keyword)) {
                 return true;
             }
         }
         return false;
     }
 
+    @Override
+    public Set<Customer> findMatches(UniqueCustomerList customers) {
+        if (keywords.size() == 1) {
+            return customers.findByKeyword(keywords.get(0));
+        }
+
+        Set<Customer> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(customers.findByKeyword(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the words of the details of {@code customer} in lower case, which are what keywords are looked for in.
+     */
+    static List<String> wordsOf(Customer customer) {
+        return Arrays.asList(WHITESPACE.split(customer.getSearchKey()));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
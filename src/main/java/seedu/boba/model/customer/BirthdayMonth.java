@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.boba.commons.util.AppUtil.checkArgument;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 
 /**
  * Represents a Customer's birthday in bobaBot.
@@ -19,22 +20,24 @@ public class BirthdayMonth {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final int MAX_MONTH = 12;
+
     private static final String[] monthStrings = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN",
         "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
 
+    // One instance per month, in calendar order
+    private static final BirthdayMonth[] months = new BirthdayMonth[MAX_MONTH];
+
+    static {
+        for (int i = 0; i < MAX_MONTH; i++) {
+            months[i] = new BirthdayMonth(i + 1);
+        }
+    }
+
     public final String value;
     public final String monthString;
 
-    /**
-     * Constructs a {@code BirthdayMonth}.
-     *
-     * @param birthdayMonth A valid birthdayMonth.
-     */
-    public BirthdayMonth(String birthdayMonth) {
-        requireNonNull(birthdayMonth);
-        checkArgument(isValidBirthdayMonth(birthdayMonth), MESSAGE_CONSTRAINTS);
-        int integerValue = Integer.valueOf(birthdayMonth);
-
+    private BirthdayMonth(int integerValue) {
         assert integerValue > 0 && integerValue < 13;
 
         // @@author tanwencong-reused
@@ -50,20 +53,47 @@ public class BirthdayMonth {
     }
 
     /**
-     * Returns true if a given string is a valid birthdayMonth.
+     * Returns the {@code BirthdayMonth} of {@code birthdayMonth}. There is only one {@code BirthdayMonth} for each
+     * month, so equal birthday months are the same object.
+     *
+     * @param birthdayMonth A valid birthdayMonth.
      */
-    public static boolean isValidBirthdayMonth(String test) {
-        return test.matches(VALIDATION_REGEX) && isNumeric(test)
-            && Integer.valueOf(test) > 0 && Integer.valueOf(test) < 13;
+    public static BirthdayMonth of(String birthdayMonth) {
+        requireNonNull(birthdayMonth);
+        checkArgument(isValidBirthdayMonth(birthdayMonth), MESSAGE_CONSTRAINTS);
+        return months[Integer.parseInt(birthdayMonth) - 1];
+    }
+
+    /**
+     * Returns the {@code BirthdayMonth} of the current month, by the local system's clock.
+     */
+    public static BirthdayMonth current() {
+        return months[LocalDate.now().getMonthValue() - 1];
     }
 
-    private static boolean isNumeric(String str) {
-        try {
-            Integer.parseInt(str);
-            return true;
-        } catch (NumberFormatException e) {
+    /**
+     * Returns true if a given string is a valid birthdayMonth.
+     */
+    public static boolean isValidBirthdayMonth(String test) {
+        // Accepts exactly what Integer#parseInt(String) parses to 1 - 12, which also satisfies VALIDATION_REGEX,
+        // but without going through a regex or an exception
+        int start = test.startsWith("+") ? 1 : 0;
+        if (start == test.length()) {
             return false;
         }
+
+        int month = 0;
+        for (int i = start; i < test.length(); i++) {
+            int digit = Character.digit(test.charAt(i), 10);
+            if (digit < 0) {
+                return false;
+            }
+            month = month * 10 + digit;
+            if (month > MAX_MONTH) {
+                return false;
+            }
+        }
+        return month > 0;
     }
 
     @Override
@@ -0,0 +1,36 @@
+package seedu.boba.model.customer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+/**
+ * Tests that the birthday of a {@code Customer} is in the given month, such as the customers currently marked with
+ * {@link Customer#BIRTHDAY_TAG}. Matching customers are looked up by their birthday month.
+ */
+public class BirthdayMonthPredicate implements IndexedPredicate {
+    private final BirthdayMonth birthdayMonth;
+
+    public BirthdayMonthPredicate(BirthdayMonth birthdayMonth) {
+        requireNonNull(birthdayMonth);
+        this.birthdayMonth = birthdayMonth;
+    }
+
+    @Override
+    public boolean test(Customer customer) {
+        return customer.hasBirthdayIn(birthdayMonth);
+    }
+
+    @Override
+    public Set<Customer> findMatches(UniqueCustomerList customers) {
+        return customers.findByBirthdayMonth(birthdayMonth);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BirthdayMonthPredicate // instanceof handles nulls
+                && birthdayMonth.equals(((BirthdayMonthPredicate) other).birthdayMonth)); // state check
+    }
+
+}
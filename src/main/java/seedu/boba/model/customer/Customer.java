@@ -2,12 +2,11 @@ package seedu.boba.model.customer;
 
 import static seedu.boba.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.boba.model.tag.Tag;
+import seedu.boba.model.tag.TagSet;
 
 /**
  * Represents a Customer in the address book.
@@ -15,7 +14,13 @@ import seedu.boba.model.tag.Tag;
  */
 public class Customer {
 
-    public static final Tag BIRTHDAY_TAG = new Tag("BDAY");
+    /**
+     * Marks customers whose birthday is in the current month. It is worked out from their birthday month whenever
+     * they are shown, rather than kept in their tags, so it is dropped from the tags a customer is created with.
+     *
+     * @see #hasBirthdayIn(BirthdayMonth)
+     */
+    public static final Tag BIRTHDAY_TAG = Tag.of("BDAY");
 
     // Identity fields
     private final Name name;
@@ -25,7 +30,13 @@ public class Customer {
     // Data fields
     private final BirthdayMonth birthdayMonth;
     private final Reward reward;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Worked out when first needed, as customers are searched and compared far more often than they are created.
+    // Racing threads can only work out the same values, so customers can still be shared freely.
+    private String allInfo;
+    private String searchKey;
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -37,7 +48,7 @@ public class Customer {
         this.email = email;
         this.birthdayMonth = birthdayMonth;
         this.reward = reward;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags).without(BIRTHDAY_TAG);
     }
 
     public Name getName() {
@@ -65,23 +76,14 @@ public class Customer {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
-    }
-
-    /**
-     * Adds a birthday tag to a Customer.
-     */
-    public void addBirthdayTag() {
-        if (!tags.contains(BIRTHDAY_TAG)) {
-            this.tags.add(BIRTHDAY_TAG);
-        }
+        return tags;
     }
 
     /**
-     * Removes the birthday tag from a Customer (if any).
+     * Returns true if the birthday of this customer is in {@code month}.
      */
-    public void removeBirthdayTag() {
-        this.tags.remove(BIRTHDAY_TAG);
+    public boolean hasBirthdayIn(BirthdayMonth month) {
+        return month.equals(birthdayMonth);
     }
 
     /**
@@ -98,7 +100,27 @@ public class Customer {
                 || otherCustomer.getEmail().equals(getEmail()));
     }
 
+    /**
+     * Returns all the details of this customer, one per line, with the tags together on the last line.
+     */
     public String getAllInfo() {
+        if (allInfo == null) {
+            allInfo = buildAllInfo();
+        }
+        return allInfo;
+    }
+
+    /**
+     * Returns {@link #getAllInfo()} in lower case, for searching the details of this customer while ignoring case.
+     */
+    public String getSearchKey() {
+        if (searchKey == null) {
+            searchKey = getAllInfo().toLowerCase();
+        }
+        return searchKey;
+    }
+
+    private String buildAllInfo() {
         final StringBuilder builder = new StringBuilder();
         builder.append(getName() + "\n")
                 .append(getPhone() + "\n")
@@ -153,8 +175,11 @@ public class Customer {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, birthdayMonth, reward, tags);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, birthdayMonth, reward, tags);
+        }
+        return hash;
     }
 
     @Override
@@ -0,0 +1,82 @@
+package seedu.boba.model.customer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from keys to the customers that have them, so that customers with a key can be found without testing
+ * every customer. The keys of a customer must not change while it is in the index.
+ * <p>
+ * Customers are held by identity, as two equal customers are still different entries of a list.
+ */
+class CustomerKeyIndex<K> {
+
+    private final Function<Customer, ? extends Collection<K>> keysOf;
+    private final Map<K, Set<Customer>> customersByKey = new HashMap<>();
+
+    /**
+     * @param keysOf gives the keys of a customer.
+     */
+    CustomerKeyIndex(Function<Customer, ? extends Collection<K>> keysOf) {
+        this.keysOf = keysOf;
+    }
+
+    /**
+     * Returns the customers with {@code key}, as an unmodifiable view that changes along with the index.
+     */
+    Set<Customer> get(K key) {
+        Set<Customer> customers = customersByKey.get(key);
+        return customers == null ? Collections.emptySet() : Collections.unmodifiableSet(customers);
+    }
+
+    void add(Customer customer) {
+        for (K key : keysOf.apply(customer)) {
+            Set<Customer> customers = customersByKey.get(key);
+            if (customers == null) {
+                customers = Collections.newSetFromMap(new IdentityHashMap<>());
+                customersByKey.put(key, customers);
+                keyAdded(key);
+            }
+            customers.add(customer);
+        }
+    }
+
+    void remove(Customer customer) {
+        for (K key : keysOf.apply(customer)) {
+            Set<Customer> customers = customersByKey.get(key);
+            if (customers != null && customers.remove(customer) && customers.isEmpty()) {
+                customersByKey.remove(key);
+                keyRemoved(key);
+            }
+        }
+    }
+
+    void clear() {
+        customersByKey.clear();
+    }
+
+    /**
+     * Returns the keys of all the customers in the index, as an unmodifiable view that changes along with the index.
+     */
+    Set<K> keys() {
+        return Collections.unmodifiableSet(customersByKey.keySet());
+    }
+
+    /**
+     * Called when the first customer with {@code key} is added to the index.
+     */
+    void keyAdded(K key) {
+    }
+
+    /**
+     * Called when the last customer with {@code key} is removed from the index, but not when the index is cleared.
+     */
+    void keyRemoved(K key) {
+    }
+
+}
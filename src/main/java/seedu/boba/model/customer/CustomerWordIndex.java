@@ -0,0 +1,91 @@
+package seedu.boba.model.customer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from words to the customers that have them, which can also find the customers with a word containing a
+ * given fragment.
+ * <p>
+ * Every distinct word is further indexed by its trigrams, the strings of three consecutive characters in it. Every
+ * trigram of a fragment is also a trigram of any word containing it, so only the words sharing the fragment's rarest
+ * trigram need to be checked. Fragments of fewer than three characters are checked against every distinct word.
+ */
+class CustomerWordIndex extends CustomerKeyIndex<String> {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * @param wordsOf gives the words of a customer.
+     */
+    CustomerWordIndex(Function<Customer, List<String>> wordsOf) {
+        super(wordsOf);
+    }
+
+    /**
+     * Returns the customers with a word containing {@code fragment}.
+     */
+    Set<Customer> findContaining(String fragment) {
+        Set<Customer> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : candidateWords(fragment)) {
+            if (word.contains(fragment)) {
+                matches.addAll(get(word));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        wordsByTrigram.clear();
+    }
+
+    @Override
+    void keyAdded(String word) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            wordsByTrigram.computeIfAbsent(word.substring(i, i + GRAM_LENGTH), unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    @Override
+    void keyRemoved(String word) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            String trigram = word.substring(i, i + GRAM_LENGTH);
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the words that may contain {@code fragment}, which include all the words that do.
+     */
+    private Set<String> candidateWords(String fragment) {
+        if (fragment.length() < GRAM_LENGTH) {
+            return keys();
+        }
+
+        Set<String> rarestTrigramWords = null;
+        for (int i = 0; i + GRAM_LENGTH <= fragment.length(); i++) {
+            Set<String> words = wordsByTrigram.get(fragment.substring(i, i + GRAM_LENGTH));
+            if (words == null) {
+                return Collections.emptySet();
+            }
+            if (rarestTrigramWords == null || words.size() < rarestTrigramWords.size()) {
+                rarestTrigramWords = words;
+            }
+        }
+        return rarestTrigramWords;
+    }
+
+}
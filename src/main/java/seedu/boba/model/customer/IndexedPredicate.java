@@ -0,0 +1,21 @@
+package seedu.boba.model.customer;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Customer>} whose matches can also be looked up in the indexes of a {@code UniqueCustomerList},
+ * instead of testing every customer in turn.
+ * {@link #findMatches(UniqueCustomerList)} must find exactly the customers that {@link #test(Object)} accepts.
+ *
+ * @see UniqueCustomerList#resolve(IndexedPredicate)
+ */
+public interface IndexedPredicate extends Predicate<Customer> {
+
+    /**
+     * Returns the customers in {@code customers} that satisfy this predicate. The returned set may compare
+     * customers by identity.
+     */
+    Set<Customer> findMatches(UniqueCustomerList customers);
+
+}
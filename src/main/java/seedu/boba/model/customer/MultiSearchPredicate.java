@@ -1,14 +1,19 @@
 package seedu.boba.model.customer;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Customer}'s {@code Name} matches any of the keywords given.
+ * The keyword {@code BDAY} also matches the customers whose birthday is in the current month, as they are marked
+ * with {@link Customer#BIRTHDAY_TAG}.
  */
-public class MultiSearchPredicate implements Predicate<Customer> {
+public class MultiSearchPredicate implements IndexedPredicate {
     private final AllInfoContainsKeywordsPredicate matchPredicate;
     private final NameSoundsSimilarToPredicate fuzzyPredicate;
+    private final BirthdayMonthPredicate birthdayPredicate;
 
     /**
      * Initialize the two sub-predicates
@@ -18,11 +23,26 @@ public class MultiSearchPredicate implements Predicate<Customer> {
     public MultiSearchPredicate(List<String> keywords) {
         this.matchPredicate = new AllInfoContainsKeywordsPredicate(keywords);
         this.fuzzyPredicate = new NameSoundsSimilarToPredicate(keywords);
+        this.birthdayPredicate = keywords.stream().anyMatch(Customer.BIRTHDAY_TAG.tagName::equalsIgnoreCase)
+                ? new BirthdayMonthPredicate(BirthdayMonth.current())
+                : null;
     }
 
     @Override
     public boolean test(Customer customer) {
-        return matchPredicate.test(customer) || fuzzyPredicate.test(customer);
+        return matchPredicate.test(customer) || fuzzyPredicate.test(customer)
+                || (birthdayPredicate != null && birthdayPredicate.test(customer));
+    }
+
+    @Override
+    public Set<Customer> findMatches(UniqueCustomerList customers) {
+        Set<Customer> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(matchPredicate.findMatches(customers));
+        matches.addAll(fuzzyPredicate.findMatches(customers));
+        if (birthdayPredicate != null) {
+            matches.addAll(birthdayPredicate.findMatches(customers));
+        }
+        return matches;
     }
 
     @Override
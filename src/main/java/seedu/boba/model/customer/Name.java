@@ -3,6 +3,12 @@ package seedu.boba.model.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.boba.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.boba.commons.util.SoundexUtil;
+
 /**
  * Represents a Customer's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +24,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    // Distinct soundex codes of the words in fullName, worked out once as names are searched by sound on every find
+    private final List<String> soundexCodes;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,15 +40,37 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name.trim();
+        soundexCodes = soundexCodesOf(fullName);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the distinct soundex codes of the words in this name.
+     *
+     * @see SoundexUtil#soundexOf(String)
+     */
+    public List<String> getSoundexCodes() {
+        return soundexCodes;
     }
 
+    private static List<String> soundexCodesOf(String fullName) {
+        List<String> codes = new ArrayList<>();
+        for (String word : fullName.split(" ")) {
+            if (!word.isEmpty()) {
+                String code = SoundexUtil.soundexOf(word);
+                if (!codes.contains(code)) {
+                    codes.add(code);
+                }
+            }
+        }
+        return List.copyOf(codes);
+    }
 
     @Override
     public String toString() {
@@ -15,6 +15,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be EXACTLY 8 digits long";
     public static final String VALIDATION_REGEX = "\\d{8,}";
+
+    private static final int LENGTH = 8;
+
     public final String value;
     public final String displayValue;
 
@@ -43,7 +46,17 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() == 8;
+        // Same as matching VALIDATION_REGEX with exactly LENGTH digits, but without going through a regex
+        if (test.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,167 @@
+package seedu.boba.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.boba.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.boba.commons.util.SoundexUtil;
+import seedu.boba.commons.util.StringUtil;
+
+/**
+ * Ranks customers by how closely a word of their {@code Name} matches any of the keywords given, best first:
+ * a word equal to a keyword, then a word starting with a keyword, then a word that sounds like a keyword, then a word
+ * within a few typing mistakes of a keyword, by Damerau-Levenshtein distance. Case is ignored.
+ * <p>
+ * Only the best few customers are kept while ranking, and once that many have been found, distances are only worked
+ * out as far as needed to tell whether a customer would beat the worst of them.
+ *
+ * @see StringUtil#damerauLevenshteinDistance(CharSequence, CharSequence, int)
+ */
+public class RankedNameSearch {
+
+    public static final int EXACT_MATCH = 0;
+    public static final int PREFIX_MATCH = 1;
+    /** A word {@code d} typing mistakes away from a keyword scores {@code SOUNDEX_MATCH + d}. */
+    public static final int SOUNDEX_MATCH = 2;
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final List<String> lowerCaseKeywords = new ArrayList<>();
+    private final Set<String> keywordCodes = new HashSet<>();
+
+    /**
+     * @param keywords the keywords to rank names against, which cannot be null or empty.
+     */
+    public RankedNameSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        checkArgument(!keywords.isEmpty(), "Keyword list cannot be empty");
+        this.keywords = keywords;
+        for (String keyword : keywords) {
+            lowerCaseKeywords.add(keyword.toLowerCase());
+            keywordCodes.add(SoundexUtil.soundexOf(keyword));
+        }
+    }
+
+    /**
+     * Returns the number of typing mistakes tolerated in a keyword of the given length, so that short keywords do not
+     * match most names.
+     */
+    static int maxDistanceFor(int keywordLength) {
+        if (keywordLength <= 2) {
+            return 0;
+        }
+        return keywordLength <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the score of {@code customer}, lower being a closer match, or {@link #NO_MATCH} if no word of its name
+     * matches any keyword.
+     */
+    public int score(Customer customer) {
+        return score(customer, NO_MATCH);
+    }
+
+    /**
+     * Returns the score of {@code customer} if it is below {@code bound}. Otherwise returns any score of at least
+     * {@code bound}, without working out the exact one.
+     */
+    int score(Customer customer, int bound) {
+        String[] words = customer.getName().fullName.toLowerCase().split(" ");
+
+        boolean isPrefixMatch = false;
+        for (String word : words) {
+            for (String keyword : lowerCaseKeywords) {
+                if (word.equals(keyword)) {
+                    return EXACT_MATCH;
+                }
+                isPrefixMatch |= word.startsWith(keyword);
+            }
+        }
+        if (isPrefixMatch) {
+            return PREFIX_MATCH;
+        }
+        for (String nameCode : customer.getName().getSoundexCodes()) {
+            if (keywordCodes.contains(nameCode)) {
+                return SOUNDEX_MATCH;
+            }
+        }
+
+        // Only distances that would score below the bound, and below the best distance so far, are worth working out
+        int distanceBound = bound == NO_MATCH ? NO_MATCH : bound - SOUNDEX_MATCH;
+        int bestDistance = NO_MATCH;
+        for (String word : words) {
+            for (String keyword : lowerCaseKeywords) {
+                int maxDistance = Math.min(maxDistanceFor(keyword.length()), Math.min(bestDistance, distanceBound) - 1);
+                if (maxDistance < 1) {
+                    continue;
+                }
+                int distance = StringUtil.damerauLevenshteinDistance(word, keyword, maxDistance);
+                if (distance <= maxDistance) {
+                    bestDistance = distance;
+                }
+            }
+        }
+        return bestDistance == NO_MATCH ? NO_MATCH : SOUNDEX_MATCH + bestDistance;
+    }
+
+    /**
+     * Returns at most {@code limit} of the matching customers in {@code customers}, best match first. Customers that
+     * match equally well are kept in the order of {@code customers}.
+     */
+    public List<Customer> findTopMatches(Iterable<Customer> customers, int limit) {
+        requireNonNull(customers);
+        checkArgument(limit > 0, "Limit must be positive");
+
+        // Worst of the best matches so far at the head, so that it can be replaced by a better one
+        PriorityQueue<Match> bestMatches = new PriorityQueue<>(Comparator.comparingInt((Match match) -> match.score)
+                .thenComparingInt(match -> match.position).reversed());
+        int position = 0;
+        for (Customer customer : customers) {
+            int bound = bestMatches.size() < limit ? NO_MATCH : bestMatches.peek().score;
+            int score = score(customer, bound);
+            if (score < bound) {
+                if (bestMatches.size() == limit) {
+                    bestMatches.poll();
+                }
+                bestMatches.add(new Match(customer, score, position));
+            }
+            position++;
+        }
+
+        Customer[] topMatches = new Customer[bestMatches.size()];
+        for (int i = topMatches.length - 1; i >= 0; i--) {
+            topMatches[i] = bestMatches.poll().customer;
+        }
+        return Arrays.asList(topMatches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankedNameSearch // instanceof handles nulls
+                && keywords.equals(((RankedNameSearch) other).keywords)); // state check
+    }
+
+    /**
+     * A customer kept while ranking, with its score and position in the customers ranked.
+     */
+    private static class Match {
+        private final Customer customer;
+        private final int score;
+        private final int position;
+
+        Match(Customer customer, int score, int position) {
+            this.customer = customer;
+            this.score = score;
+            this.position = position;
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.boba.commons.util.AppUtil.checkArgument;
 
 import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Customer's reward points in bobaBot.
@@ -15,7 +16,7 @@ public class Reward {
             + ", and it should not be blank";
     public static final String MESSAGE_MAX_INTEGER = "Reward points must be POSITIVE integers and"
             + " CANNOT take any values more than 2147483647 (Maximum integer value)";
-    public static final String MESSAGE_MAX_EXCEEDED = "Reward points exceeded 2147483647 (Maximum integer value)!";
+    public static final String MESSAGE_MAX_EXCEEDED = "Reward points exceeded " + Long.MAX_VALUE + " (Maximum value)!";
     public static final String MESSAGE_NEGATIVE = "Reward points will be NEGATIVE after decrement. Please check again!";
 
     /*
@@ -24,8 +25,12 @@ public class Reward {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
-    public final String value;
-    public final String displayValue;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    public final long value;
+
+    // Built on first use, as most rewards are never displayed
+    private String displayValue;
 
     /**
      * Constructs an {@code Reward}.
@@ -35,43 +40,82 @@ public class Reward {
     public Reward(String reward) {
         requireNonNull(reward);
         checkArgument(isValidReward(reward), MESSAGE_CONSTRAINTS);
-        int integerValue = Integer.valueOf(reward);
-        checkArgument(integerValue >= 0, MESSAGE_CONSTRAINTS);
-        value = String.valueOf(integerValue);
-
-        // @@author tanwencong-reused
-        // Reused from https://stackoverflow.com/questions/22872484/javafx-how-can-i-display-emoji
-        // with minor modifications
-        // Generate reward emoji
-        byte[] emojiByteCode = new byte[] {(byte) 0xF0, (byte) 0x9F, (byte) 0x8E, (byte) 0x81};
-        String emoji = new String(emojiByteCode, StandardCharsets.UTF_8);
-        // @@author
-
-        displayValue = emoji + " " + value;
+        long points = Long.parseLong(reward);
+        checkArgument(points >= 0, MESSAGE_CONSTRAINTS);
+        value = points;
+    }
+
+    /**
+     * Constructs an {@code Reward} of {@code points} reward points.
+     *
+     * @param points A non-negative number of reward points.
+     */
+    public Reward(long points) {
+        checkArgument(points >= 0, MESSAGE_CONSTRAINTS);
+        value = points;
+    }
+
+    /**
+     * Returns a {@code Reward} with {@code points} more reward points than this one.
+     *
+     * @throws ArithmeticException if the total exceeds {@code Long.MAX_VALUE}.
+     */
+    public Reward increaseBy(long points) {
+        checkArgument(points >= 0, MESSAGE_CONSTRAINTS);
+        return points == 0 ? this : new Reward(Math.addExact(value, points));
+    }
+
+    /**
+     * Returns a {@code Reward} with {@code points} fewer reward points than this one.
+     *
+     * @throws IllegalArgumentException if that would leave a negative number of reward points.
+     */
+    public Reward decreaseBy(long points) {
+        checkArgument(points >= 0, MESSAGE_CONSTRAINTS);
+        checkArgument(points <= value, MESSAGE_NEGATIVE);
+        return points == 0 ? this : new Reward(value - points);
+    }
+
+    /**
+     * Returns the reward points prefixed with a gift emoji, for display.
+     */
+    public String getDisplayValue() {
+        if (displayValue == null) {
+            // @@author tanwencong-reused
+            // Reused from https://stackoverflow.com/questions/22872484/javafx-how-can-i-display-emoji
+            // with minor modifications
+            // Generate reward emoji
+            byte[] emojiByteCode = new byte[] {(byte) 0xF0, (byte) 0x9F, (byte) 0x8E, (byte) 0x81};
+            String emoji = new String(emojiByteCode, StandardCharsets.UTF_8);
+            // @@author
+
+            displayValue = emoji + " " + value;
+        }
+        return displayValue;
     }
 
     /**
      * Returns true if a given string is a valid reward.
      */
     public static boolean isValidReward(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public String toString() {
-        return value;
+        return String.valueOf(value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Reward // instanceof handles nulls
-                && value.equals(((Reward) other).value)); // state check
+                && value == ((Reward) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 
 }
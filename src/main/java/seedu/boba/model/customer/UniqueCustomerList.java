@@ -3,13 +3,18 @@ package seedu.boba.model.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.boba.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.boba.commons.core.PersistentList;
 import seedu.boba.model.customer.exceptions.DuplicatePersonException;
 import seedu.boba.model.customer.exceptions.PersonNotFoundException;
 
@@ -21,6 +26,17 @@ import seedu.boba.model.customer.exceptions.PersonNotFoundException;
  * However, the removal of a customer uses Customer#equals(Object) so as to ensure that the customer with
  * exactly the same fields will be removed.
  * <p>
+ * Positions of customers are additionally indexed by phone number and email so that lookups by either
+ * identity field take constant time. The indexes are kept in sync by every mutating operation.
+ * <p>
+ * Customers are also indexed for searching, by the soundex codes of their names, by the words of their details and
+ * by their birthday months, so that a search looks its matches up instead of testing every customer. These indexes
+ * are only built by the first search after the contents of the list are replaced, as copies and snapshots of the
+ * list are rarely searched, and are then kept in sync with every change.
+ * <p>
+ * The contents are also mirrored in a {@code PersistentList}, so that a snapshot of the list can be taken in
+ * constant time with {@link #asPersistentList()} and restored with {@link #setPersons(PersistentList)}.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Customer#isSamePerson(Customer)
@@ -31,12 +47,46 @@ public class UniqueCustomerList implements Iterable<Customer> {
     private final ObservableList<Customer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Position of each customer in internalList, keyed by the customer's identity fields
+    private final Map<Phone, Integer> phoneIndex = new HashMap<>();
+    private final Map<Email, Integer> emailIndex = new HashMap<>();
+
+    // Customers keyed by the soundex codes of their names, by the words of their details, and by birthday month
+    private final CustomerKeyIndex<String> soundexIndex =
+            new CustomerKeyIndex<>(customer -> customer.getName().getSoundexCodes());
+    private final CustomerWordIndex wordIndex = new CustomerWordIndex(AllInfoContainsKeywordsPredicate::wordsOf);
+    private final CustomerKeyIndex<BirthdayMonth> birthdayMonthIndex =
+            new CustomerKeyIndex<>(customer -> List.of(customer.getBirthdayMonth()));
+    private boolean areSearchIndexesBuilt = false;
+
+    // Immutable version of internalList, sharing structure with all previously taken snapshots
+    private PersistentList<Customer> persistentList = PersistentList.empty();
+
+    // Number of times the list has been changed, used to tell cheaply whether anything happened since a point.
+    // Every change counts itself before touching internalList, as listeners of internalList may read the count.
+    private long modificationCount = 0;
+
     /**
      * Returns true if the list contains an equivalent customer as the given argument.
      */
     public boolean contains(Customer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone()) || emailIndex.containsKey(toCheck.getEmail());
+    }
+
+    /**
+     * Returns the position of the first customer in the list that is {@code Customer#equals(Object)} to
+     * {@code toFind}, or -1 if there is none.
+     * Equivalent to {@code internalList.indexOf(toFind)}, but resolved through the identity indexes.
+     */
+    public int indexOf(Customer toFind) {
+        requireNonNull(toFind);
+        Integer byPhone = phoneIndex.get(toFind.getPhone());
+        Integer byEmail = emailIndex.get(toFind.getEmail());
+        if (byPhone == null) {
+            return byEmail == null ? -1 : byEmail;
+        }
+        return byEmail == null ? byPhone : Math.min(byPhone, byEmail);
     }
 
     /**
@@ -48,8 +98,8 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public int findNum(Phone toCheck) throws PersonNotFoundException {
         requireNonNull(toCheck);
-        int index = internalList.stream().map(Customer::getPhone).collect(Collectors.toList()).indexOf(toCheck);
-        if (index == -1) {
+        Integer index = phoneIndex.get(toCheck);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
         return index;
@@ -64,8 +114,8 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public int findEmail(Email toCheck) throws PersonNotFoundException {
         requireNonNull(toCheck);
-        int index = internalList.stream().map(Customer::getEmail).collect(Collectors.toList()).indexOf(toCheck);
-        if (index == -1) {
+        Integer index = emailIndex.get(toCheck);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
         return index;
@@ -76,12 +126,15 @@ public class UniqueCustomerList implements Iterable<Customer> {
      *
      * @param phone Phone number of the Customer of interest
      * @return the current Reward points of a Customer
+     * @throws NoSuchElementException if no Customer with corresponding phone number found
      */
     public Reward getCurrentReward(Phone phone) {
         requireNonNull(phone);
-        Optional<Reward> currentReward = internalList.stream().filter(person -> person.getPhone().equals(phone))
-                .map(Customer::getReward).findFirst();
-        return currentReward.get();
+        Integer index = phoneIndex.get(phone);
+        if (index == null) {
+            throw new NoSuchElementException();
+        }
+        return internalList.get(index).getReward();
     }
 
     /**
@@ -89,12 +142,64 @@ public class UniqueCustomerList implements Iterable<Customer> {
      *
      * @param email Email of the Customer of interest
      * @return the current Reward points of a Customer
+     * @throws NoSuchElementException if no Customer with corresponding email found
      */
     public Reward getCurrentReward(Email email) {
         requireNonNull(email);
-        Optional<Reward> currentReward = internalList.stream().filter(person -> person.getEmail().equals(email))
-                .map(Customer::getReward).findFirst();
-        return currentReward.get();
+        Integer index = emailIndex.get(email);
+        if (index == null) {
+            throw new NoSuchElementException();
+        }
+        return internalList.get(index).getReward();
+    }
+
+    /**
+     * Returns the customers whose names have a word with the soundex code {@code code}.
+     *
+     * @see Name#getSoundexCodes()
+     */
+    public Set<Customer> findBySoundex(String code) {
+        requireNonNull(code);
+        buildSearchIndexesIfNeeded();
+        return soundexIndex.get(code);
+    }
+
+    /**
+     * Returns the customers whose details contain {@code keyword}, ignoring case, such as the last digits of a
+     * phone number or the domain of an email.
+     * Only the distinct words of all customers' details that share the rarest trigram of {@code keyword} are
+     * checked for it, and the customers with the matching words are then looked up.
+     *
+     * @param keyword cannot contain whitespace.
+     * @see AllInfoContainsKeywordsPredicate
+     */
+    public Set<Customer> findByKeyword(String keyword) {
+        requireNonNull(keyword);
+        buildSearchIndexesIfNeeded();
+        return wordIndex.findContaining(keyword.toLowerCase());
+    }
+
+    /**
+     * Returns the customers whose birthdays are in {@code birthdayMonth}.
+     */
+    public Set<Customer> findByBirthdayMonth(BirthdayMonth birthdayMonth) {
+        requireNonNull(birthdayMonth);
+        buildSearchIndexesIfNeeded();
+        return birthdayMonthIndex.get(birthdayMonth);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate}, whose matches among the current customers are looked up
+     * once through the indexes of this list. Once this list has been changed, customers are tested with
+     * {@code predicate} itself, so that the result does not go stale when used to filter this list.
+     */
+    public Predicate<Customer> resolve(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Customer> matches = predicate.findMatches(this);
+        long resolvedModificationCount = modificationCount;
+        return customer -> modificationCount == resolvedModificationCount
+                ? matches.contains(customer)
+                : predicate.test(customer);
     }
 
     /**
@@ -106,27 +211,80 @@ public class UniqueCustomerList implements Iterable<Customer> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        modificationCount++;
         internalList.add(toAdd);
+        persistentList = persistentList.plus(toAdd);
+        index(toAdd, internalList.size() - 1);
+        addToSearchIndexes(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of the customers may already exist in the list, and {@code toAdd} must not contain duplicate customers.
+     */
+    public void addAll(List<Customer> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        int firstIndex = internalList.size();
+        modificationCount++;
+        internalList.addAll(toAdd);
+        for (Customer customer : toAdd) {
+            persistentList = persistentList.plus(customer);
+            addToSearchIndexes(customer);
+        }
+        reindexFrom(firstIndex);
+    }
+
+    /**
+     * Adds a customer to the list at position {@code index}, shifting the customers after it.
+     * The customer must not already exist in the list.
+     */
+    public void add(int index, Customer toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        modificationCount++;
+        internalList.add(index, toAdd);
+        persistentList = persistentList.plus(index, toAdd);
+        reindexFrom(index);
+        addToSearchIndexes(toAdd);
     }
 
     /**
      * Replaces the customer {@code target} in the list with {@code editedCustomer}.
      * {@code target} must exist in the list.
      * The customer identity of {@code editedCustomer} must not be the same as another existing customer in the list.
+     * The list is left unchanged if {@code editedCustomer} is strictly equal to the customer it would replace.
      */
     public void setPerson(Customer target, Customer editedCustomer) {
         requireAllNonNull(target, editedCustomer);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
+        if (internalList.get(index).strictlyEquals(editedCustomer)) {
+            return;
+        }
 
         if (!target.isSamePerson(editedCustomer) && contains(editedCustomer)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedCustomer);
+        modificationCount++;
+        Customer replaced = internalList.set(index, editedCustomer);
+        unindex(replaced, index);
+        removeFromSearchIndexes(replaced);
+        persistentList = persistentList.with(index, editedCustomer);
+        index(editedCustomer, index);
+        addToSearchIndexes(editedCustomer);
     }
 
     /**
@@ -135,14 +293,33 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public void remove(Customer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        modificationCount++;
+        Customer removed = internalList.remove(index);
+        unindex(removed, index);
+        removeFromSearchIndexes(removed);
+        persistentList = persistentList.minus(index);
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * Since {@code replacement} already enforces uniqueness, its customers are not checked for duplicates again
+     * and its identity indexes are copied over instead of being rebuilt.
+     */
     public void setPersons(UniqueCustomerList replacement) {
         requireNonNull(replacement);
+        modificationCount++;
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        discardSearchIndexes();
     }
 
     /**
@@ -155,7 +332,45 @@ public class UniqueCustomerList implements Iterable<Customer> {
             throw new DuplicatePersonException();
         }
 
+        modificationCount++;
         internalList.setAll(customers);
+        persistentList = PersistentList.of(customers);
+        phoneIndex.clear();
+        emailIndex.clear();
+        reindexFrom(0);
+        discardSearchIndexes();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}.
+     * {@code snapshot} must have been obtained from {@link #asPersistentList()} of a {@code UniqueCustomerList},
+     * as its customers are trusted to be unique and are not checked for duplicates again.
+     */
+    public void setPersons(PersistentList<Customer> snapshot) {
+        requireNonNull(snapshot);
+        modificationCount++;
+        internalList.setAll(snapshot);
+        persistentList = snapshot;
+        phoneIndex.clear();
+        emailIndex.clear();
+        reindexFrom(0);
+        discardSearchIndexes();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * Takes constant time, and later changes to this list do not affect the returned snapshot.
+     */
+    public PersistentList<Customer> asPersistentList() {
+        return persistentList;
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * Two equal counts taken from the same list mean that the list has not been changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -167,7 +382,7 @@ public class UniqueCustomerList implements Iterable<Customer> {
 
     @Override
     public Iterator<Customer> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -207,15 +422,73 @@ public class UniqueCustomerList implements Iterable<Customer> {
         return internalList.hashCode();
     }
 
+    /**
+     * Records {@code customer} as being at position {@code index} of the list.
+     */
+    private void index(Customer customer, int index) {
+        phoneIndex.put(customer.getPhone(), index);
+        emailIndex.put(customer.getEmail(), index);
+    }
+
+    /**
+     * Removes the index entries of {@code customer}, which was at position {@code index} of the list.
+     */
+    private void unindex(Customer customer, int index) {
+        phoneIndex.remove(customer.getPhone(), index);
+        emailIndex.remove(customer.getEmail(), index);
+    }
+
+    private void addToSearchIndexes(Customer customer) {
+        if (areSearchIndexesBuilt) {
+            soundexIndex.add(customer);
+            wordIndex.add(customer);
+            birthdayMonthIndex.add(customer);
+        }
+    }
+
+    private void removeFromSearchIndexes(Customer customer) {
+        if (areSearchIndexesBuilt) {
+            soundexIndex.remove(customer);
+            wordIndex.remove(customer);
+            birthdayMonthIndex.remove(customer);
+        }
+    }
+
+    private void buildSearchIndexesIfNeeded() {
+        if (areSearchIndexesBuilt) {
+            return;
+        }
+        areSearchIndexesBuilt = true;
+        internalList.forEach(this::addToSearchIndexes);
+    }
+
+    private void discardSearchIndexes() {
+        areSearchIndexesBuilt = false;
+        soundexIndex.clear();
+        wordIndex.clear();
+        birthdayMonthIndex.clear();
+    }
+
+    /**
+     * Re-records the positions of all customers from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code customers} contains only unique customers.
+     * Two customers are the same if they share a phone number or an email, so it suffices to check that no
+     * phone number and no email is seen twice.
      */
     private boolean personsAreUnique(List<Customer> customers) {
-        for (int i = 0; i < customers.size() - 1; i++) {
-            for (int j = i + 1; j < customers.size(); j++) {
-                if (customers.get(i).isSamePerson(customers.get(j))) {
-                    return false;
-                }
+        Set<Phone> seenPhones = new HashSet<>();
+        Set<Email> seenEmails = new HashSet<>();
+        for (Customer customer : customers) {
+            if (!seenPhones.add(customer.getPhone()) || !seenEmails.add(customer.getEmail())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,162 @@
+package seedu.boba.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.boba.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, held in a single array sorted by tag name.
+ * Customers carry only a handful of tags, so this takes a fraction of the memory of a {@code HashSet}, and as tags
+ * are interned, looking one up is a short scan of reference comparisons.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> BY_TAG_NAME = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.toArray(new Tag[0]);
+        Arrays.sort(sortedTags, BY_TAG_NAME);
+        int distinctCount = 0;
+        for (Tag tag : sortedTags) {
+            if (distinctCount == 0 || sortedTags[distinctCount - 1] != tag) {
+                sortedTags[distinctCount++] = tag;
+            }
+        }
+        return new TagSet(Arrays.copyOf(sortedTags, distinctCount));
+    }
+
+    /**
+     * Returns a {@code TagSet} of the tags in this set and {@code tag}.
+     */
+    public TagSet with(Tag tag) {
+        requireNonNull(tag);
+        if (contains(tag)) {
+            return this;
+        }
+
+        Tag[] newTags = Arrays.copyOf(tags, tags.length + 1);
+        newTags[tags.length] = tag;
+        Arrays.sort(newTags, BY_TAG_NAME);
+        return new TagSet(newTags);
+    }
+
+    /**
+     * Returns a {@code TagSet} of the tags in this set other than {@code tag}.
+     */
+    public TagSet without(Tag tag) {
+        requireNonNull(tag);
+        if (!contains(tag)) {
+            return this;
+        }
+        if (tags.length == 1) {
+            return EMPTY;
+        }
+
+        Tag[] newTags = new Tag[tags.length - 1];
+        int i = 0;
+        for (Tag existing : tags) {
+            if (existing != tag) {
+                newTags[i++] = existing;
+            }
+        }
+        return new TagSet(newTags);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        for (Tag tag : tags) {
+            if (tag == other) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+}
@@ -0,0 +1,279 @@
+package seedu.boba.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.boba.commons.core.LogsCenter;
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.commons.exceptions.IllegalValueException;
+import seedu.boba.commons.util.FileUtil;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.ReadOnlyBobaBot;
+import seedu.boba.model.customer.BirthdayMonth;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.customer.Email;
+import seedu.boba.model.customer.Name;
+import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.Reward;
+import seedu.boba.model.tag.Tag;
+import seedu.boba.model.tag.TagSet;
+
+/**
+ * A class to access BobaBot data stored in a compact binary file on the hard disk.
+ * <p>
+ * All numbers are big-endian. The file starts with the {@link #MAGIC} int and the {@link #FORMAT_VERSION} short,
+ * followed by the tag dictionary (an int count, then each tag name) and the customers (an int count, then each
+ * customer). A customer is its name, its phone packed as an int, its email, its birthday month as a byte, its reward
+ * as a long, and an unsigned short count of tags followed by the unsigned short dictionary id of each tag.
+ * Every string is UTF-8, prefixed with its length in bytes as an unsigned short.
+ * Files of version 1, which stored the reward as an int, can still be read.
+ */
+public class BinaryBobaBotStorage implements BobaBotStorage {
+
+    /** The bytes "BOBA", which every binary data file starts with. */
+    public static final int MAGIC = 0x424F4241;
+    public static final short FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not a binary BobaBot file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary data file is corrupted.";
+    public static final String MESSAGE_VALUE_TOO_LONG = "%s is too long to be stored in a binary data file.";
+
+    private static final short INT_REWARD_FORMAT_VERSION = 1;
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+    private static final int PHONE_LENGTH = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryBobaBotStorage.class);
+
+    private Path filePath;
+
+    public BinaryBobaBotStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getBobaBotFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBobaBot> readBobaBot() throws DataConversionException, IOException {
+        return readBobaBot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readBobaBot()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyBobaBot> readBobaBot(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(FileUtil.readFromFileAsBuffer(filePath)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot) throws IOException {
+        saveBobaBot(bobaBot, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBobaBot(ReadOnlyBobaBot)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot, Path filePath) throws IOException {
+        requireNonNull(bobaBot);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> encode(bobaBot, out), JsonBobaBotStorage.BACKUP_COUNT);
+    }
+
+    /**
+     * Writes {@code bobaBot} to {@code out} in the binary format.
+     *
+     * @throws IOException if a value does not fit in the format, or there was a problem writing to {@code out}.
+     */
+    static void encode(ReadOnlyBobaBot bobaBot, OutputStream out) throws IOException {
+        List<Customer> customers = bobaBot.getPersonList();
+        Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        for (Customer customer : customers) {
+            for (Tag tag : customer.getTags()) {
+                tagIds.putIfAbsent(tag, tagIds.size());
+            }
+        }
+        if (tagIds.size() > MAX_UNSIGNED_SHORT + 1) {
+            throw new IOException(String.format(MESSAGE_VALUE_TOO_LONG, "The list of tags"));
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        data.writeInt(tagIds.size());
+        for (Tag tag : tagIds.keySet()) {
+            writeString(data, tag.tagName);
+        }
+
+        data.writeInt(customers.size());
+        for (Customer customer : customers) {
+            writeString(data, customer.getName().fullName);
+            data.writeInt(Integer.parseInt(customer.getPhone().value));
+            writeString(data, customer.getEmail().value);
+            data.writeByte(Integer.parseInt(customer.getBirthdayMonth().value));
+            data.writeLong(customer.getReward().value);
+            data.writeShort(customer.getTags().size());
+            for (Tag tag : customer.getTags()) {
+                data.writeShort(tagIds.get(tag));
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a bobaBot in the binary format from the remaining bytes of {@code buffer}.
+     *
+     * @throws IllegalValueException if the bytes are not in the binary format, or if there were any data
+     *     constraints violated.
+     */
+    static BobaBot decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION && version != INT_REWARD_FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            Tag[] tags = new Tag[readCount(buffer)];
+            for (int i = 0; i < tags.length; i++) {
+                String tagName = readString(buffer);
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[i] = Tag.of(tagName);
+            }
+
+            BobaBot bobaBot = new BobaBot();
+            int customerCount = readCount(buffer);
+            for (int i = 0; i < customerCount; i++) {
+                Customer customer = readCustomer(buffer, version, tags);
+                if (bobaBot.hasPerson(customer)) {
+                    throw new IllegalValueException(JsonSerializableBobaBot.MESSAGE_DUPLICATE_PERSON);
+                }
+                bobaBot.addPerson(customer);
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return bobaBot;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static Customer readCustomer(ByteBuffer buffer, short version, Tag[] tags) throws IllegalValueException {
+        String name = readString(buffer);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        String phone = toPhoneDigits(buffer.getInt());
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+
+        String email = readString(buffer);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        String birthdayMonth = String.valueOf(buffer.get());
+        if (!BirthdayMonth.isValidBirthdayMonth(birthdayMonth)) {
+            throw new IllegalValueException(BirthdayMonth.MESSAGE_CONSTRAINTS);
+        }
+
+        long reward = version == INT_REWARD_FORMAT_VERSION ? buffer.getInt() : buffer.getLong();
+        if (reward < 0) {
+            throw new IllegalValueException(Reward.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = Short.toUnsignedInt(buffer.getShort());
+        List<Tag> customerTags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            int tagId = Short.toUnsignedInt(buffer.getShort());
+            if (tagId >= tags.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            customerTags.add(tags[tagId]);
+        }
+
+        return new Customer(new Name(name), new Phone(phone), new Email(email), BirthdayMonth.of(birthdayMonth),
+                new Reward(reward), TagSet.of(customerTags));
+    }
+
+    /**
+     * Returns the 8-digit phone number packed into {@code packedPhone}, keeping any leading zeros.
+     */
+    private static String toPhoneDigits(int packedPhone) {
+        StringBuilder digits = new StringBuilder(Integer.toString(packedPhone));
+        while (digits.length() < PHONE_LENGTH) {
+            digits.insert(0, '0');
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Reads a count of entries that each take at least one more byte, so that a corrupted count fails here instead
+     * of allocating a huge array.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_UNSIGNED_SHORT) {
+            throw new IOException(String.format(MESSAGE_VALUE_TOO_LONG, value));
+        }
+        data.writeShort(bytes.length);
+        data.write(bytes);
+    }
+
+}
@@ -0,0 +1,74 @@
+package seedu.boba.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.model.ReadOnlyBobaBot;
+
+/**
+ * Converts a BobaBot data file between the json, binary and CSV formats, so that existing data files can be migrated.
+ * A file whose name ends with {@link #BINARY_FILE_EXTENSION} is read and written as binary, one whose name ends with
+ * {@link #CSV_FILE_EXTENSION} as CSV, and any other file as json. A json file with a journal next to it, as kept
+ * when the data file format is {@code JOURNAL}, is read together with its journal.
+ * <p>
+ * It is run from the jar with {@code java -cp bobaBot.jar seedu.boba.storage.BobaBotFileConverter}.
+ */
+public class BobaBotFileConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String CSV_FILE_EXTENSION = ".csv";
+
+    public static final String MESSAGE_USAGE = "Usage: BobaBotFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "Example: BobaBotFileConverter data/bobabot.json data/bobabot" + BINARY_FILE_EXTENSION;
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+            System.out.println("Converted " + args[0] + " to " + args[1]);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code source} and writes the same data to {@code target}, each in the format given
+     * by its file name.
+     *
+     * @throws DataConversionException if {@code source} is not in the expected format.
+     * @throws IOException if {@code source} does not exist, or there was a problem reading or writing a file.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        ReadOnlyBobaBot bobaBot = storageFor(source).readBobaBot()
+                .orElseThrow(() -> new FileNotFoundException(source.toString()));
+        storageFor(target).saveBobaBot(bobaBot);
+    }
+
+    /**
+     * Returns a {@code BobaBotStorage} for the data file at {@code filePath}, in the format given by its file name
+     * and whether it has a journal.
+     */
+    public static BobaBotStorage storageFor(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(BINARY_FILE_EXTENSION)) {
+            return new BinaryBobaBotStorage(filePath);
+        }
+        if (fileName.endsWith(CSV_FILE_EXTENSION)) {
+            return new CsvBobaBotStorage(filePath);
+        }
+        if (Files.exists(JournalBobaBotStorage.getJournalFilePath(filePath))) {
+            return new JournalBobaBotStorage(filePath);
+        }
+        return new JsonBobaBotStorage(filePath);
+    }
+
+}
@@ -43,4 +43,32 @@ public interface BobaBotStorage {
      */
     void saveBobaBot(ReadOnlyBobaBot addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyBobaBot} to the storage like {@link #saveBobaBot(ReadOnlyBobaBot)}, and runs
+     * {@code onWritten} once it has been written. Storages that write before returning run it before returning,
+     * while others may run it on another thread, or not at all if a later save writes newer data first.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveBobaBot(ReadOnlyBobaBot addressBook, Runnable onWritten) throws IOException {
+        saveBobaBot(addressBook);
+        onWritten.run();
+    }
+
+    /**
+     * Waits until all the data saved so far has been written.
+     * Storages that write before {@code saveBobaBot} returns have nothing to wait for.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {
+    }
+
+    /**
+     * Throws the failure of a save that was written after {@code saveBobaBot} returned, if one has failed since
+     * the last failure was reported.
+     * Storages that write before {@code saveBobaBot} returns have no such failures to report.
+     * @throws IOException if such a save failed.
+     */
+    default void reportFailedSaves() throws IOException {
+    }
+
 }
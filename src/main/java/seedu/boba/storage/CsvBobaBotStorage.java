@@ -0,0 +1,257 @@
+package seedu.boba.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.boba.commons.core.LogsCenter;
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.commons.exceptions.IllegalValueException;
+import seedu.boba.commons.util.CsvUtil;
+import seedu.boba.commons.util.FileUtil;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.ReadOnlyBobaBot;
+import seedu.boba.model.customer.Customer;
+
+/**
+ * A class to access BobaBot data stored as a CSV file, for exchanging customer lists with spreadsheets and other
+ * systems.
+ * <p>
+ * The file starts with the {@link #HEADER} row, followed by one row per customer. The tags of a customer are
+ * separated by spaces within the last column. Blank rows are ignored.
+ */
+public class CsvBobaBotStorage implements BobaBotStorage {
+
+    public static final String HEADER = "name,phone,email,birthday_month,reward,tags";
+
+    public static final String MESSAGE_MISSING_HEADER = "CSV file does not start with the header " + HEADER;
+    public static final String MESSAGE_INVALID_ROW = "Row %d of the CSV file is invalid: %s";
+    public static final String MESSAGE_REPEATED_ROW =
+            "Row %d of the CSV file has the same phone number or email as row %d";
+
+    private static final List<String> COLUMNS = CsvUtil.parseLine(HEADER);
+    private static final String TAG_SEPARATOR = " ";
+    private static final Pattern TAG_SEPARATOR_PATTERN = Pattern.compile("\\s+");
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final Logger logger = LogsCenter.getLogger(CsvBobaBotStorage.class);
+
+    private Path filePath;
+    private final int backupCount;
+
+    public CsvBobaBotStorage(Path filePath) {
+        this(filePath, JsonBobaBotStorage.BACKUP_COUNT);
+    }
+
+    /**
+     * @param backupCount the number of previous copies of the file to keep when it is overwritten.
+     */
+    public CsvBobaBotStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    public Path getBobaBotFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBobaBot> readBobaBot() throws DataConversionException, IOException {
+        return readBobaBot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readBobaBot()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, or if two of its rows have the same
+     *     phone number or email.
+     */
+    public Optional<ReadOnlyBobaBot> readBobaBot(Path filePath) throws DataConversionException, IOException {
+        return readFile(filePath, CsvBobaBotStorage::readFrom);
+    }
+
+    /**
+     * Returns the customers in the file in file order, including customers with the same phone number or email as a
+     * customer of an earlier row, which {@link #readBobaBot()} rejects.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<List<Customer>> readCustomers() throws DataConversionException, IOException {
+        return readFile(filePath, reader -> readCustomersFrom(reader, new ArrayList<>()));
+    }
+
+    private static <T> Optional<T> readFile(Path filePath, CsvReader<T> csvReader)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("CSV file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return Optional.of(csvReader.readFrom(reader));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot) throws IOException {
+        saveBobaBot(bobaBot, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBobaBot(ReadOnlyBobaBot)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot, Path filePath) throws IOException {
+        requireNonNull(bobaBot);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeTo(out, bobaBot), backupCount);
+    }
+
+    /**
+     * Writes {@code bobaBot} to {@code out} as CSV, one customer at a time.
+     */
+    static void writeTo(OutputStream out, ReadOnlyBobaBot bobaBot) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Customer customer : bobaBot.getPersonList()) {
+            CsvUtil.writeLine(writer,
+                    customer.getName().fullName,
+                    customer.getPhone().value,
+                    customer.getEmail().value,
+                    customer.getBirthdayMonth().value,
+                    customer.getReward().toString(),
+                    customer.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(TAG_SEPARATOR)));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads a bobaBot in CSV from {@code reader}.
+     *
+     * @throws IllegalValueException if the rows are not in the expected format, if there were any data
+     *     constraints violated, or if two rows have the same phone number or email.
+     */
+    static BobaBot readFrom(BufferedReader reader) throws IOException, IllegalValueException {
+        List<Integer> rowNumbers = new ArrayList<>();
+        List<Customer> customers = readCustomersFrom(reader, rowNumbers);
+        JsonSerializableBobaBot.checkNoRepeatedCustomers(customers, rowNumbers::get, MESSAGE_REPEATED_ROW);
+        return JsonSerializableBobaBot.toBobaBot(customers);
+    }
+
+    /**
+     * Reads the customers in CSV from {@code reader}, adding the row number of each of them in the file to
+     * {@code rowNumbers}. Rows are converted into the bobaBotModel's {@code Customer} a batch at a time as they are
+     * read, in parallel for large batches.
+     *
+     * @throws IllegalValueException if the rows are not in the expected format, or if there were any data
+     *     constraints violated.
+     */
+    private static List<Customer> readCustomersFrom(BufferedReader reader, List<Integer> rowNumbers)
+            throws IOException, IllegalValueException {
+        String header = reader.readLine();
+        if (header != null && !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK) {
+            header = header.substring(1);
+        }
+        if (header == null || !isHeader(header)) {
+            throw new IllegalValueException(MESSAGE_MISSING_HEADER);
+        }
+
+        List<Customer> customers = new ArrayList<>();
+        List<JsonAdaptedCustomer> batch = new ArrayList<>();
+        String line;
+        int rowNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            batch.add(toAdaptedCustomer(parseRow(line, rowNumber)));
+            rowNumbers.add(rowNumber);
+            if (batch.size() == JsonSerializableBobaBot.READ_BATCH_SIZE) {
+                customers.addAll(toModelCustomers(batch, rowNumbers));
+                batch.clear();
+            }
+        }
+        customers.addAll(toModelCustomers(batch, rowNumbers));
+        return customers;
+    }
+
+    /**
+     * Converts {@code batch}, the last rows of those numbered in {@code rowNumbers}, naming the row of an invalid
+     * customer as numbered in the file.
+     */
+    private static List<Customer> toModelCustomers(List<JsonAdaptedCustomer> batch, List<Integer> rowNumbers)
+            throws IllegalValueException {
+        int firstIndex = rowNumbers.size() - batch.size();
+        return JsonSerializableBobaBot.toModelCustomers(batch, i -> rowNumbers.get(firstIndex + i),
+                MESSAGE_INVALID_ROW);
+    }
+
+    private static boolean isHeader(String line) {
+        try {
+            return COLUMNS.equals(CsvUtil.parseLine(line));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static List<String> parseRow(String line, int rowNumber) throws IllegalValueException {
+        List<String> values;
+        try {
+            values = CsvUtil.parseLine(line);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ROW, rowNumber, e.getMessage()));
+        }
+        if (values.size() != COLUMNS.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ROW, rowNumber,
+                    "expected " + COLUMNS.size() + " columns but found " + values.size()));
+        }
+        return values;
+    }
+
+    private static JsonAdaptedCustomer toAdaptedCustomer(List<String> values) {
+        String tags = values.get(5);
+        List<JsonAdaptedTag> tagged = new ArrayList<>();
+        if (!tags.isEmpty()) {
+            for (String tagName : TAG_SEPARATOR_PATTERN.split(tags)) {
+                tagged.add(new JsonAdaptedTag(tagName));
+            }
+        }
+        return new JsonAdaptedCustomer(values.get(0), values.get(1), values.get(2), values.get(3), values.get(4),
+                tagged);
+    }
+
+    /**
+     * Reads data of type {@code T} from an open CSV file.
+     */
+    @FunctionalInterface
+    private interface CsvReader<T> {
+        T readFrom(BufferedReader reader) throws IOException, IllegalValueException;
+    }
+
+}
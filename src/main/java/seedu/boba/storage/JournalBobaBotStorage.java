@@ -0,0 +1,314 @@
+package seedu.boba.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.boba.commons.core.LogsCenter;
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.commons.exceptions.IllegalValueException;
+import seedu.boba.commons.util.FileUtil;
+import seedu.boba.commons.util.JsonUtil;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.ReadOnlyBobaBot;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.customer.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access BobaBot data stored as a json snapshot plus a journal of the changes made since.
+ * <p>
+ * The snapshot is in the same format as the file of a {@link JsonBobaBotStorage}. The journal is kept next to it,
+ * with {@link #JOURNAL_FILE_SUFFIX} appended to its name, and holds one line of json per record. Its first record
+ * holds the checksum of the snapshot it applies to, and every following record is one customer being added,
+ * removed or replaced. Saving appends the records for the customers that changed since the last save, and
+ * compacts the journal into a new snapshot once it holds more than a set number of records.
+ * <p>
+ * Every write to the journal is forced to the storage device before the save returns, so saved changes survive
+ * a power loss as well as a crash of the app. A record only counts once the newline ending it has been written, so
+ * a record torn by a crash is ignored.
+ * A journal whose checksum does not match the snapshot is left over from a compaction that was interrupted after
+ * the new snapshot was written, and is ignored as well.
+ */
+public class JournalBobaBotStorage implements BobaBotStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    // Maximum number of change records in a journal before it is compacted into a new snapshot
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalBobaBotStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // Customers as last read from or written to filePath, or null if its journal cannot be appended to
+    private List<Customer> savedCustomers;
+    private int journalRecordCount;
+
+    public JournalBobaBotStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalBobaBotStorage} that compacts its journal after {@code compactionThreshold} records.
+     */
+    public JournalBobaBotStorage(Path filePath, int compactionThreshold) {
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getBobaBotFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyBobaBot> readBobaBot() throws DataConversionException, IOException {
+        return readBobaBot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readBobaBot()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or a complete journal record is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyBobaBot> readBobaBot(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer snapshot = FileUtil.readFromFileAsBuffer(filePath);
+        long snapshotChecksum = checksumOf(snapshot.duplicate());
+        BobaBot bobaBot = new BobaBot();
+        OptionalInt replayedRecordCount;
+        try (JsonParser parser = JsonUtil.createJsonParser(snapshot)) {
+            List<Customer> customers = new ArrayList<>(JsonSerializableBobaBot.readFrom(parser).getPersonList());
+            replayedRecordCount = replayJournal(getJournalFilePath(filePath), snapshotChecksum, customers);
+            bobaBot.setPersons(customers);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (DuplicatePersonException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableBobaBot.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedCustomers = replayedRecordCount.isPresent() ? bobaBot.getPersonSnapshot() : null;
+            journalRecordCount = replayedRecordCount.orElse(0);
+        }
+        return Optional.of(bobaBot);
+    }
+
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot) throws IOException {
+        saveBobaBot(bobaBot, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBobaBot(ReadOnlyBobaBot)}.
+     * Only appends to the journal when saving to the file this storage was last read from or saved to.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot, Path filePath) throws IOException {
+        requireNonNull(bobaBot);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(bobaBot, filePath);
+            return;
+        }
+
+        List<Customer> customers = snapshotOf(bobaBot);
+        List<JsonAdaptedJournalRecord> records = savedCustomers == null ? null : diff(savedCustomers, customers);
+        savedCustomers = null;
+        if (records == null || journalRecordCount + records.size() > compactionThreshold) {
+            writeSnapshot(bobaBot, filePath);
+            journalRecordCount = 0;
+        } else if (!records.isEmpty()) {
+            appendToJournal(records, getJournalFilePath(filePath));
+            journalRecordCount += records.size();
+        }
+        savedCustomers = customers;
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code customers}.
+     * Returns the number of change records applied, or an empty {@code OptionalInt} if the journal is missing,
+     * does not belong to the snapshot with checksum {@code snapshotChecksum}, or ends in a torn record.
+     * In all of these cases the journal must be replaced before it can be appended to.
+     */
+    private static OptionalInt replayJournal(Path journalPath, long snapshotChecksum, List<Customer> customers)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return OptionalInt.empty();
+        }
+
+        String[] lines = FileUtil.readFromFile(journalPath).split("\n", -1);
+        int completeLineCount = lines.length - 1;
+        boolean isTorn = !lines[completeLineCount].isEmpty();
+        int recordCount = 0;
+        for (int i = 0; i < completeLineCount; i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i < completeLineCount - 1) {
+                    throw e;
+                }
+                isTorn = true;
+                break;
+            }
+
+            if (i > 0) {
+                record.applyTo(customers);
+                recordCount++;
+            } else if (record.getSnapshotChecksum() != snapshotChecksum) {
+                logger.info("Ignoring journal " + journalPath + " as it was written for a different snapshot");
+                return OptionalInt.empty();
+            }
+        }
+
+        if (isTorn || completeLineCount == 0) {
+            logger.warning("Ignoring journal " + journalPath + " as its last record is incomplete");
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(recordCount);
+    }
+
+    /**
+     * Writes all of {@code bobaBot} to the snapshot at {@code filePath}, then starts a new journal for it.
+     */
+    private static void writeSnapshot(ReadOnlyBobaBot bobaBot, Path filePath) throws IOException {
+        byte[] snapshot = JsonUtil.toJsonString(new JsonSerializableBobaBot(bobaBot)).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(filePath, out -> out.write(snapshot), JsonBobaBotStorage.BACKUP_COUNT);
+
+        String header = JsonUtil.toJsonLine(JsonAdaptedJournalRecord.snapshot(checksumOf(snapshot)));
+        FileUtil.writeToFileDurably(getJournalFilePath(filePath), header.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends {@code records} to the journal at {@code journalPath} as a single write, forced to the storage device
+     * before returning so that a saved change survives a power loss and not just a crash of the app.
+     */
+    private static void appendToJournal(List<JsonAdaptedJournalRecord> records, Path journalPath)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toJsonLine(record));
+        }
+        FileUtil.writeToFileDurably(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the records that turn {@code saved} into {@code current}.
+     * Customers are compared by reference. After skipping the longest common prefix and suffix of the two lists,
+     * the rest is walked once, so the number of records grows with the number of customers that changed.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Customer> saved, List<Customer> current) {
+        Customer[] before = saved.toArray(new Customer[0]);
+        Customer[] after = current.toArray(new Customer[0]);
+        int commonLength = Math.min(before.length, after.length);
+
+        int start = 0;
+        while (start < commonLength && before[start] == after[start]) {
+            start++;
+        }
+        int beforeEnd = before.length;
+        int afterEnd = after.length;
+        while (beforeEnd > start && afterEnd > start && before[beforeEnd - 1] == after[afterEnd - 1]) {
+            beforeEnd--;
+            afterEnd--;
+        }
+
+        Set<Customer> remainingBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingBefore.addAll(Arrays.asList(before).subList(start, beforeEnd));
+        Set<Customer> remainingAfter = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingAfter.addAll(Arrays.asList(after).subList(start, afterEnd));
+
+        // after[start..j) is already in place, and the customers of before[i..beforeEnd) follow it from index j
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int i = start;
+        int j = start;
+        while (i < beforeEnd || j < afterEnd) {
+            if (j == afterEnd) {
+                records.add(JsonAdaptedJournalRecord.remove(j));
+                i++;
+            } else if (i == beforeEnd) {
+                records.add(JsonAdaptedJournalRecord.add(j, after[j]));
+                j++;
+            } else if (before[i] == after[j]) {
+                i++;
+                j++;
+            } else if (!remainingAfter.contains(before[i]) && !remainingBefore.contains(after[j])) {
+                records.add(JsonAdaptedJournalRecord.set(j, after[j]));
+                i++;
+                j++;
+            } else if (!remainingBefore.contains(after[j])) {
+                records.add(JsonAdaptedJournalRecord.add(j, after[j]));
+                j++;
+            } else {
+                // before[i] was removed, or moved to a later index where it will be added back
+                records.add(JsonAdaptedJournalRecord.remove(j));
+                remainingBefore.remove(before[i]);
+                i++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the customers of {@code bobaBot} in a list that later changes to {@code bobaBot} do not affect.
+     */
+    private static List<Customer> snapshotOf(ReadOnlyBobaBot bobaBot) {
+        if (bobaBot instanceof BobaBot) {
+            return ((BobaBot) bobaBot).getPersonSnapshot();
+        }
+        return new ArrayList<>(bobaBot.getPersonList());
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    private static long checksumOf(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
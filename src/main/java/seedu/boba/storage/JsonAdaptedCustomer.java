@@ -1,7 +1,6 @@
 package seedu.boba.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,6 +16,7 @@ import seedu.boba.model.customer.Name;
 import seedu.boba.model.customer.Phone;
 import seedu.boba.model.customer.Reward;
 import seedu.boba.model.tag.Tag;
+import seedu.boba.model.tag.TagSet;
 
 /**
  * Jackson-friendly version of {@link Customer}.
@@ -58,7 +58,7 @@ class JsonAdaptedCustomer {
         phone = source.getPhone().value;
         email = source.getEmail().value;
         birthdayMonth = source.getBirthdayMonth().value;
-        reward = source.getReward().value;
+        reward = source.getReward().toString();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -106,7 +106,7 @@ class JsonAdaptedCustomer {
         if (!BirthdayMonth.isValidBirthdayMonth(birthdayMonth)) {
             throw new IllegalValueException(BirthdayMonth.MESSAGE_CONSTRAINTS);
         }
-        final BirthdayMonth modelBirthdayMonth = new BirthdayMonth(birthdayMonth);
+        final BirthdayMonth modelBirthdayMonth = BirthdayMonth.of(birthdayMonth);
 
         if (reward == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Reward.class.getSimpleName()));
@@ -116,7 +116,7 @@ class JsonAdaptedCustomer {
         }
         final Reward modelReward = new Reward(reward);
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
+        final Set<Tag> modelTags = TagSet.of(personTags);
         return new Customer(modelName, modelPhone, modelEmail, modelBirthdayMonth, modelReward, modelTags);
     }
 
@@ -0,0 +1,113 @@
+package seedu.boba.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.boba.commons.exceptions.IllegalValueException;
+import seedu.boba.model.customer.Customer;
+
+/**
+ * Jackson-friendly version of one record in the journal of a {@link JournalBobaBotStorage}.
+ * <p>
+ * The first record of a journal names the snapshot that the journal applies to.
+ * Every other record is one change to the customer list at a position in it.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    /**
+     * Kinds of records that can appear in a journal.
+     */
+    enum Operation {
+        SNAPSHOT, ADD, REMOVE, SET
+    }
+
+    private final Operation op;
+    private final Long snapshotChecksum;
+    private final Integer index;
+    private final JsonAdaptedCustomer customer;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op,
+                                    @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("customer") JsonAdaptedCustomer customer) {
+        this.op = op;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.customer = customer;
+    }
+
+    /**
+     * Returns the header record of a journal that applies to the snapshot with checksum {@code snapshotChecksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(Operation.SNAPSHOT, snapshotChecksum, null, null);
+    }
+
+    /**
+     * Returns a record of {@code customer} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, Customer customer) {
+        return new JsonAdaptedJournalRecord(Operation.ADD, null, index, new JsonAdaptedCustomer(customer));
+    }
+
+    /**
+     * Returns a record of the customer at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE, null, index, null);
+    }
+
+    /**
+     * Returns a record of the customer at {@code index} being replaced by {@code customer}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Customer customer) {
+        return new JsonAdaptedJournalRecord(Operation.SET, null, index, new JsonAdaptedCustomer(customer));
+    }
+
+    /**
+     * Returns the checksum of the snapshot this header record applies to.
+     *
+     * @throws IllegalValueException if this is not a header record.
+     */
+    public long getSnapshotChecksum() throws IllegalValueException {
+        if (op != Operation.SNAPSHOT || snapshotChecksum == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing snapshot header"));
+        }
+        return snapshotChecksum;
+    }
+
+    /**
+     * Makes the change described by this record to {@code customers}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code customers}.
+     */
+    public void applyTo(List<Customer> customers) throws IllegalValueException {
+        if (op == null || op == Operation.SNAPSHOT) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unexpected operation " + op));
+        }
+        int bound = op == Operation.ADD ? customers.size() + 1 : customers.size();
+        if (index == null || index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "index " + index));
+        }
+        if (op == Operation.REMOVE) {
+            customers.remove((int) index);
+            return;
+        }
+        if (customer == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing customer"));
+        }
+        if (op == Operation.ADD) {
+            customers.add(index, customer.toModelType());
+        } else {
+            customers.set(index, customer.toModelType());
+        }
+    }
+}
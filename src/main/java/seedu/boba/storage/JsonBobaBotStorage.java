@@ -3,10 +3,14 @@ package seedu.boba.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.boba.commons.core.LogsCenter;
 import seedu.boba.commons.exceptions.DataConversionException;
 import seedu.boba.commons.exceptions.IllegalValueException;
@@ -16,9 +20,13 @@ import seedu.boba.model.ReadOnlyBobaBot;
 
 /**
  * A class to access BobaBot data stored as a json file on the hard disk.
+ * The file is streamed one customer at a time, so no copy of the whole data set is held besides the model itself.
  */
 public class JsonBobaBotStorage implements BobaBotStorage {
 
+    /** Number of previous copies of the data file kept next to it, for recovering from a bad save by hand. */
+    public static final int BACKUP_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonBobaBotStorage.class);
 
     private Path filePath;
@@ -45,14 +53,16 @@ public class JsonBobaBotStorage implements BobaBotStorage {
     public Optional<ReadOnlyBobaBot> readBobaBot(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableBobaBot> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableBobaBot.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(FileUtil.readFromFileAsBuffer(filePath))) {
+            return Optional.of(JsonSerializableBobaBot.readFrom(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +83,11 @@ public class JsonBobaBotStorage implements BobaBotStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableBobaBot(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                JsonSerializableBobaBot.writeTo(generator, addressBook);
+            }
+        }, BACKUP_COUNT);
     }
 
 }
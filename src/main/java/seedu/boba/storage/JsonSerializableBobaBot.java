@@ -1,17 +1,29 @@
 package seedu.boba.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.boba.commons.exceptions.IllegalValueException;
 import seedu.boba.model.BobaBot;
 import seedu.boba.model.ReadOnlyBobaBot;
 import seedu.boba.model.customer.Customer;
+import seedu.boba.model.customer.Email;
+import seedu.boba.model.customer.Phone;
 
 /**
  * An Immutable BobaBot that is serializable to JSON format.
@@ -20,6 +32,17 @@ import seedu.boba.model.customer.Customer;
 class JsonSerializableBobaBot {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate customer(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Customer %d in the persons list is invalid: %s";
+    public static final String MESSAGE_REPEATED_PERSON =
+            "Customer %d in the persons list has the same phone number or email as customer %d";
+
+    /** Number of customers {@link #readFrom(JsonParser)} holds before converting them. */
+    static final int READ_BATCH_SIZE = 8192;
+
+    private static final String PERSONS_FIELD = "persons";
+
+    /** Lists of customers shorter than this are converted on the calling thread only. */
+    private static final int PARALLEL_THRESHOLD = 512;
 
     private final List<JsonAdaptedCustomer> persons = new ArrayList<>();
 
@@ -46,15 +69,138 @@ class JsonSerializableBobaBot {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public BobaBot toModelType() throws IllegalValueException {
-        BobaBot bobaBot = new BobaBot();
-        for (JsonAdaptedCustomer jsonAdaptedCustomer : persons) {
-            Customer customer = jsonAdaptedCustomer.toModelType();
-            if (bobaBot.hasPerson(customer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toBobaBot(toModelCustomers(persons, 0));
+    }
+
+    /**
+     * Converts each of {@code adaptedCustomers} into the bobaBotModel's {@code Customer}, in parallel for long lists.
+     * If more than one customer is invalid, the error of the first one is reported, whatever the order of conversion.
+     *
+     * @param firstRow the row of the first of {@code adaptedCustomers} in the persons list, counting from 0.
+     * @throws IllegalValueException if there were any data constraints violated, naming the offending row.
+     */
+    static List<Customer> toModelCustomers(List<JsonAdaptedCustomer> adaptedCustomers, int firstRow)
+            throws IllegalValueException {
+        return toModelCustomers(adaptedCustomers, i -> firstRow + i + 1, MESSAGE_INVALID_PERSON);
+    }
+
+    /**
+     * Similar to {@link #toModelCustomers(List, int)}, but reports an invalid customer with {@code messageFormat},
+     * given the row number that {@code rowNumberOf} returns for its index in {@code adaptedCustomers}, then its error.
+     */
+    static List<Customer> toModelCustomers(List<JsonAdaptedCustomer> adaptedCustomers, IntUnaryOperator rowNumberOf,
+            String messageFormat) throws IllegalValueException {
+        Customer[] customers = new Customer[adaptedCustomers.size()];
+        IllegalValueException[] errors = new IllegalValueException[adaptedCustomers.size()];
+
+        IntStream rows = IntStream.range(0, customers.length);
+        if (customers.length >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(i -> {
+            try {
+                customers[i] = adaptedCustomers.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                throw new IllegalValueException(
+                        String.format(messageFormat, rowNumberOf.applyAsInt(i), errors[i].getMessage()), errors[i]);
             }
-            bobaBot.addPerson(customer);
         }
+        return Arrays.asList(customers);
+    }
+
+    /**
+     * Returns a {@code BobaBot} of {@code customers}, checking for duplicates in a single pass.
+     *
+     * @throws IllegalValueException if {@code customers} contains duplicate customers, naming the first customer
+     *     that repeats the phone number or email of an earlier one, and that earlier one.
+     */
+    static BobaBot toBobaBot(List<Customer> customers) throws IllegalValueException {
+        checkNoRepeatedCustomers(customers, i -> i + 1, MESSAGE_REPEATED_PERSON);
+        BobaBot bobaBot = new BobaBot();
+        bobaBot.setPersons(customers);
         return bobaBot;
     }
 
+    /**
+     * Checks that no two of {@code customers} have the same phone number or email. The first customer that repeats
+     * the phone number or email of an earlier one is reported with {@code messageFormat}, given the row numbers that
+     * {@code rowNumberOf} returns for the indexes of that customer and of the earlier one in {@code customers}.
+     *
+     * @throws IllegalValueException if two of {@code customers} have the same phone number or email.
+     */
+    static void checkNoRepeatedCustomers(List<Customer> customers, IntUnaryOperator rowNumberOf,
+            String messageFormat) throws IllegalValueException {
+        Map<Phone, Integer> phoneIndexes = new HashMap<>();
+        Map<Email, Integer> emailIndexes = new HashMap<>();
+        for (int i = 0; i < customers.size(); i++) {
+            Customer customer = customers.get(i);
+            Integer earlierIndex = phoneIndexes.putIfAbsent(customer.getPhone(), i);
+            if (earlierIndex == null) {
+                earlierIndex = emailIndexes.putIfAbsent(customer.getEmail(), i);
+            }
+            if (earlierIndex != null) {
+                throw new IllegalValueException(String.format(messageFormat, rowNumberOf.applyAsInt(i),
+                        rowNumberOf.applyAsInt(earlierIndex)));
+            }
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one customer at a
+     * time instead of building the whole list first.
+     */
+    public static void writeTo(JsonGenerator generator, ReadOnlyBobaBot source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Customer customer : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedCustomer(customer));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a bobabot written in the format of this class from {@code parser}. Customers are converted into the
+     * bobaBotModel's {@code Customer} a batch at a time as they are read, so at most one batch is held in its json
+     * form. Fields other than the persons list are skipped.
+     *
+     * @throws IOException if the data is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static BobaBot readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a bobabot object");
+        }
+
+        List<Customer> customers = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a list of persons");
+            }
+
+            List<JsonAdaptedCustomer> batch = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedCustomer.class));
+                if (batch.size() == READ_BATCH_SIZE) {
+                    customers.addAll(toModelCustomers(batch, customers.size()));
+                    batch.clear();
+                }
+            }
+            customers.addAll(toModelCustomers(batch, customers.size()));
+        }
+        return toBobaBot(customers);
+    }
+
 }
@@ -14,6 +14,9 @@ import seedu.boba.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    /** Number of previous copies of the preferences file kept next to it. */
+    public static final int BACKUP_COUNT = 1;
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -41,7 +44,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFile(userPrefs, filePath, BACKUP_COUNT);
     }
 
 }
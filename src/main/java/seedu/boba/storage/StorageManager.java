@@ -75,4 +75,20 @@ public class StorageManager implements Storage {
         bobaBotStorage.saveBobaBot(bobaBot, filePath);
     }
 
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot, Runnable onWritten) throws IOException {
+        logger.fine("Attempting to write to data file: " + bobaBotStorage.getBobaBotFilePath());
+        bobaBotStorage.saveBobaBot(bobaBot, onWritten);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        bobaBotStorage.flush();
+    }
+
+    @Override
+    public void reportFailedSaves() throws IOException {
+        bobaBotStorage.reportFailedSaves();
+    }
+
 }
@@ -0,0 +1,194 @@
+package seedu.boba.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.boba.commons.core.LogsCenter;
+import seedu.boba.commons.core.PersistentList;
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.commons.util.StringUtil;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.ReadOnlyBobaBot;
+import seedu.boba.model.customer.Customer;
+
+/**
+ * A {@link BobaBotStorage} that saves to another {@code BobaBotStorage} on a background thread.
+ * <p>
+ * {@link #saveBobaBot(ReadOnlyBobaBot, Path)} only takes a snapshot of the BobaBot and returns. A single writer
+ * thread then writes the snapshots out in order, and a save made while an earlier save to the same file is still
+ * waiting replaces it, so a burst of saves results in one write of the latest data.
+ * <p>
+ * A write that fails is reported by throwing its {@code IOException} from the next call to {@code saveBobaBot},
+ * {@link #flush()} or {@link #reportFailedSaves()}. A write that succeeds runs the {@code onWritten} callback of
+ * the save it wrote on the writer thread, while the callbacks of the saves it replaced are dropped.
+ */
+public class WriteBehindBobaBotStorage implements BobaBotStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindBobaBotStorage.class);
+
+    private final BobaBotStorage bobaBotStorage;
+    private final ExecutorService writer;
+
+    // Latest save waiting to be written to each file
+    private final Map<Path, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+
+    // Failure of a background write that has not been reported yet
+    private final AtomicReference<IOException> unreportedFailure = new AtomicReference<>();
+
+    /**
+     * Creates a {@code WriteBehindBobaBotStorage} that writes to {@code bobaBotStorage}.
+     */
+    public WriteBehindBobaBotStorage(BobaBotStorage bobaBotStorage) {
+        requireNonNull(bobaBotStorage);
+        this.bobaBotStorage = bobaBotStorage;
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "BobaBot writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getBobaBotFilePath() {
+        return bobaBotStorage.getBobaBotFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyBobaBot> readBobaBot() throws DataConversionException, IOException {
+        return readBobaBot(getBobaBotFilePath());
+    }
+
+    /**
+     * Waits for the pending saves to be written before reading, so that the data read is never older than
+     * the data last saved.
+     */
+    @Override
+    public Optional<ReadOnlyBobaBot> readBobaBot(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return bobaBotStorage.readBobaBot(filePath);
+    }
+
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot) throws IOException {
+        saveBobaBot(bobaBot, getBobaBotFilePath());
+    }
+
+    /**
+     * Queues a snapshot of {@code bobaBot} to be written to {@code filePath} and returns without waiting for it.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot, Path filePath) throws IOException {
+        queueSave(bobaBot, filePath, () -> { });
+    }
+
+    /**
+     * Queues a snapshot of {@code bobaBot} to be written to the data file and returns without waiting for it.
+     * {@code onWritten} is run on the writer thread once the snapshot has been written.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveBobaBot(ReadOnlyBobaBot bobaBot, Runnable onWritten) throws IOException {
+        queueSave(bobaBot, getBobaBotFilePath(), onWritten);
+    }
+
+    private void queueSave(ReadOnlyBobaBot bobaBot, Path filePath, Runnable onWritten) throws IOException {
+        requireNonNull(bobaBot);
+        requireNonNull(filePath);
+        requireNonNull(onWritten);
+
+        if (pendingSaves.put(filePath, new PendingSave(snapshotOf(bobaBot), onWritten)) == null) {
+            writer.execute(() -> writePendingSave(filePath));
+        }
+        reportFailure();
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     *
+     * @throws IOException if a background write failed, or if interrupted while waiting.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for BobaBot data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+        reportFailure();
+    }
+
+    /**
+     * Throws the failure of a background write that has not been reported yet, if any.
+     */
+    @Override
+    public void reportFailedSaves() throws IOException {
+        reportFailure();
+    }
+
+    private void writePendingSave(Path filePath) {
+        PendingSave pendingSave = pendingSaves.remove(filePath);
+        if (pendingSave == null) {
+            return;
+        }
+        try {
+            bobaBotStorage.saveBobaBot(pendingSave.snapshot, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save BobaBot data to " + filePath + ": " + StringUtil.getDetails(e));
+            unreportedFailure.set(e);
+            return;
+        }
+        pendingSave.onWritten.run();
+    }
+
+    private void reportFailure() throws IOException {
+        IOException failure = unreportedFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns a copy of {@code bobaBot} that later changes to {@code bobaBot} do not affect.
+     * Takes O(1) time for a {@code BobaBot}, which can hand out an immutable snapshot of its customers.
+     */
+    private static ReadOnlyBobaBot snapshotOf(ReadOnlyBobaBot bobaBot) {
+        if (!(bobaBot instanceof BobaBot)) {
+            return new BobaBot(bobaBot);
+        }
+        PersistentList<Customer> customers = ((BobaBot) bobaBot).getPersonSnapshot();
+        ObservableList<Customer> customerList =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(customers));
+        return () -> customerList;
+    }
+
+    /**
+     * A snapshot waiting to be written, with the callback to run once it has been.
+     */
+    private static class PendingSave {
+        private final ReadOnlyBobaBot snapshot;
+        private final Runnable onWritten;
+
+        PendingSave(ReadOnlyBobaBot snapshot, Runnable onWritten) {
+            this.snapshot = snapshot;
+            this.onWritten = onWritten;
+        }
+    }
+}
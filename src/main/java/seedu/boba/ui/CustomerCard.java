@@ -2,16 +2,17 @@ package seedu.boba.ui;
 
 import static seedu.boba.model.customer.Customer.BIRTHDAY_TAG;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.boba.model.customer.BirthdayMonth;
 import seedu.boba.model.customer.Customer;
 import seedu.boba.model.tag.Tag;
 
@@ -70,10 +71,13 @@ public class CustomerCard extends UiPart<Region> {
         name.setText(customer.getName().fullName);
         phone.setText(customer.getPhone().displayValue);
         birthdayMonth.setText(customer.getBirthdayMonth().monthString);
-        reward.setText(customer.getReward().displayValue);
+        reward.setText(customer.getReward().getDisplayValue());
         email.setText(customer.getEmail().displayValue);
-        List<Tag> listOfTags = customer.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName)).collect(Collectors.toList());
+        List<Tag> listOfTags = new ArrayList<>(customer.getTags());
+        if (customer.hasBirthdayIn(BirthdayMonth.current())) {
+            listOfTags.add(BIRTHDAY_TAG);
+        }
+        listOfTags.sort(Comparator.comparing(tag -> tag.tagName));
         for (Tag tag : listOfTags) {
             String tagName = tag.tagName;
             Label label = new Label(tagName);
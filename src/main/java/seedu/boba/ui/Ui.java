@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows an error dialog with the given text, and returns once the user has closed it. */
+    void showErrorDialogAndWait(String title, String headerText, String contentText);
+
 }
@@ -54,6 +54,12 @@ public class UiManager implements Ui {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
 
+    @Override
+    public void showErrorDialogAndWait(String title, String headerText, String contentText) {
+        Stage owner = mainWindow == null ? null : mainWindow.getPrimaryStage();
+        showAlertDialogAndWait(owner, AlertType.ERROR, title, headerText, contentText);
+    }
+
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
         showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
     }
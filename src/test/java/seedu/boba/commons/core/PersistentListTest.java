@@ -0,0 +1,88 @@
+package seedu.boba.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void of_list_hasSameElements() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(elements, PersistentList.of(elements));
+        assertEquals(elements.hashCode(), PersistentList.of(elements).hashCode());
+    }
+
+    @Test
+    public void updates_doNotAffectPreviousVersions() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> inserted = original.plus(0, "z");
+        PersistentList<String> replaced = original.with(1, "y");
+        PersistentList<String> removed = original.minus(2);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("z", "a", "b", "c"), inserted);
+        assertEquals(Arrays.asList("a", "y", "c"), replaced);
+        assertEquals(Arrays.asList("a", "b"), removed);
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+    }
+
+    @Test
+    public void outOfBoundsIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+    }
+
+    @Test
+    public void listMutators_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
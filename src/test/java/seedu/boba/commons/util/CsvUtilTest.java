@@ -0,0 +1,50 @@
+package seedu.boba.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.boba.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    //---------------- Tests for parseLine --------------------------------------
+
+    @Test
+    public void parseLine() {
+        // null record
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+
+        // empty record -> one empty value
+        assertEquals(Collections.singletonList(""), CsvUtil.parseLine(""));
+
+        // unquoted values are trimmed
+        assertEquals(Arrays.asList("a", "b c", ""), CsvUtil.parseLine(" a ,b c , "));
+
+        // quoted values are kept exactly, with doubled quotes unescaped
+        assertEquals(Arrays.asList("a, b", " say \"hi\" ", ""),
+                CsvUtil.parseLine("\"a, b\", \" say \"\"hi\"\" \" ,\"\""));
+
+        // unclosed quote
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("a,\"b"));
+
+        // text after a quoted value
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    //---------------- Tests for writeLine --------------------------------------
+
+    @Test
+    public void writeLine_valuesNeedingQuotes_quotedAndReadBack() throws Exception {
+        String[] values = {"plain", "a, b", "say \"hi\"", " padded ", ""};
+        StringBuilder out = new StringBuilder();
+
+        CsvUtil.writeLine(out, values);
+
+        assertEquals("plain,\"a, b\",\"say \"\"hi\"\"\",\" padded \",\n", out.toString());
+        assertEquals(Arrays.asList(values), CsvUtil.parseLine(out.substring(0, out.length() - 1)));
+    }
+
+}
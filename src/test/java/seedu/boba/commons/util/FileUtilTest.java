@@ -1,13 +1,26 @@
 package seedu.boba.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,96 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_repeatedWrites_keepsLatestBackups() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("data.json");
+        for (int version = 1; version <= 4; version++) {
+            writeAtomically(file, "version " + version, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void writeToFileAtomically_contentLargerThanBuffer_writtenInFull() throws IOException {
+        Path file = testFolder.resolve("large.json");
+        String content = "0123456789".repeat(20_000);
+
+        writeAtomically(file, content, 0);
+
+        assertEquals(content, FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        writeAtomically(file, "good", 1);
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("crash");
+        }, 1));
+
+        assertEquals("good", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.toFile().list().length);
+    }
+
+    @Test
+    public void writeToFileDurably_createThenAppend_contentInOrder() throws IOException {
+        Path file = testFolder.resolve("journal");
+        FileUtil.writeToFileDurably(file, bytes("first\n"), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        FileUtil.writeToFileDurably(file, bytes("second\n"), StandardOpenOption.APPEND);
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+
+        // truncates when not appending
+        FileUtil.writeToFileDurably(file, bytes("third\n"), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        assertEquals("third\n", FileUtil.readFromFile(file));
+
+        // appending does not create a missing file
+        assertThrows(NoSuchFileException.class, () -> FileUtil.writeToFileDurably(
+                testFolder.resolve("missing"), bytes("lost\n"), StandardOpenOption.APPEND));
+    }
+
+    @Test
+    public void readFromFileAsBuffer_smallAndLargeFiles_sameContent() throws IOException {
+        Path smallFile = testFolder.resolve("small.json");
+        Path largeFile = testFolder.resolve("large.json");
+        String smallContent = "small";
+        String largeContent = "0123456789".repeat(200_000);
+        writeAtomically(smallFile, smallContent, 0);
+        writeAtomically(largeFile, largeContent, 0);
+
+        assertEquals(smallContent, StandardCharsets.UTF_8.decode(FileUtil.readFromFileAsBuffer(smallFile)).toString());
+        assertEquals(largeContent, StandardCharsets.UTF_8.decode(FileUtil.readFromFileAsBuffer(largeFile)).toString());
+    }
+
+    @Test
+    public void readFromFileAsBuffer_fileReplacedAfterRead_bufferKeepsContent() throws IOException {
+        Path file = testFolder.resolve("large.json");
+        String oldContent = "0123456789".repeat(200_000);
+        writeAtomically(file, oldContent, 0);
+
+        ByteBuffer buffer = FileUtil.readFromFileAsBuffer(file);
+        assertEquals(FileUtil.CAN_MAP_REPLACED_FILES, buffer.isDirect());
+        // the file can be replaced while the buffer is in use, whether the buffer maps the file or copies it
+        writeAtomically(file, "new", 0);
+
+        assertEquals(oldContent, StandardCharsets.UTF_8.decode(buffer).toString());
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeAtomically(Path file, String content, int backupCount) throws IOException {
+        FileUtil.writeToFileAtomically(file, out -> out.write(content.getBytes(StandardCharsets.UTF_8)), backupCount);
+    }
+
 }
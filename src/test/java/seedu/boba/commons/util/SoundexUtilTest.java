@@ -0,0 +1,74 @@
+package seedu.boba.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SoundexUtilTest {
+
+    @Test
+    public void soundexOf_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SoundexUtil.soundexOf(null));
+    }
+
+    @Test
+    public void soundexOf_similarSoundingWords_sameCode() {
+        assertEquals("r163", SoundexUtil.soundexOf("Robert"));
+        assertEquals("r163", SoundexUtil.soundexOf("Rupert"));
+
+        // h, w and y after the first letter are dropped
+        assertEquals(SoundexUtil.soundexOf("Meier"), SoundexUtil.soundexOf("Meyer"));
+
+        // case does not matter
+        assertEquals(SoundexUtil.soundexOf("alice"), SoundexUtil.soundexOf("ALICE"));
+    }
+
+    @Test
+    public void soundexOf_shortWord_paddedWithZeros() {
+        assertEquals("a000", SoundexUtil.soundexOf("A"));
+        assertEquals("l000", SoundexUtil.soundexOf("Lee"));
+    }
+
+    @Test
+    public void soundexOf_longWord_keepsFirstThreeDigits() {
+        assertEquals("w252", SoundexUtil.soundexOf("Washington"));
+    }
+
+    @Test
+    public void soundexOf_firstLetterSharesDigitWithNext_bothKept() {
+        assertEquals("p123", SoundexUtil.soundexOf("Pfister"));
+    }
+
+    @Test
+    public void soundexOf_notFullyAlphabetical_returnsLowerCase() {
+        assertEquals("r2d2", SoundexUtil.soundexOf("R2D2"));
+        assertEquals("94351253", SoundexUtil.soundexOf("94351253"));
+    }
+
+    @Test
+    public void soundexOf_letterAlphabeticalInLowerCase_encoded() {
+        // The Kelvin sign is a k in lower case
+        assertEquals("k500", SoundexUtil.soundexOf("\u212Aim"));
+    }
+
+    @Test
+    public void encode_alphabeticalWord_writesCode() {
+        char[] code = new char[SoundexUtil.CODE_LENGTH];
+        assertTrue(SoundexUtil.encode("Ashcraft", code));
+        assertEquals("a261", new String(code));
+
+        // buffer is reused
+        assertTrue(SoundexUtil.encode("Li", code));
+        assertEquals("l000", new String(code));
+    }
+
+    @Test
+    public void encode_notFullyAlphabetical_returnsFalse() {
+        char[] code = new char[SoundexUtil.CODE_LENGTH];
+        assertFalse(SoundexUtil.encode("Agent007", code));
+        assertFalse(SoundexUtil.encode("Mary-Ann", code));
+    }
+}
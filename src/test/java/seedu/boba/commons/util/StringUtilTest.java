@@ -1,5 +1,6 @@
 package seedu.boba.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.testutil.Assert.assertThrows;
@@ -123,6 +124,45 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for damerauLevenshteinDistance --------------------------------------
+
+    @Test
+    public void damerauLevenshteinDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.damerauLevenshteinDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.damerauLevenshteinDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.damerauLevenshteinDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void damerauLevenshteinDistance_withinMaxDistance_returnsDistance() {
+        // Same strings
+        assertEquals(0, StringUtil.damerauLevenshteinDistance("", "", 0)); // Boundary case
+        assertEquals(0, StringUtil.damerauLevenshteinDistance("alice", "alice", 0));
+
+        // One edit of each kind
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("kurz", "kunz", 2)); // Substitution
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("meier", "meiers", 2)); // Insertion
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("meier", "meir", 2)); // Deletion
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("alice", "alcie", 2)); // Swap
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("ab", "ba", 1)); // Swap of the only two characters
+
+        // Several edits
+        assertEquals(2, StringUtil.damerauLevenshteinDistance("benson", "bnesno", 2));
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("", "abc", 3));
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("kitten", "sitting", 5));
+
+        // A swapped pair is not edited again
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("ca", "abc", 3));
+    }
+
+    @Test
+    public void damerauLevenshteinDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("kurz", "kunz", 0)); // Boundary case
+        assertEquals(2, StringUtil.damerauLevenshteinDistance("benson", "ben", 1)); // Lengths too far apart
+        assertEquals(2, StringUtil.damerauLevenshteinDistance("abcdef", "uvwxyz", 1)); // Gives up early
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("kitten", "sitting", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.boba.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.commons.core.Messages.MESSAGE_INVALID_PERSON_INFORMATION;
 import static seedu.boba.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.boba.logic.commands.CommandTestUtil.BIRTHDAY_MONTH_DESC_AMY;
@@ -13,6 +15,8 @@ import static seedu.boba.testutil.TypicalCustomers.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import seedu.boba.model.BobaBotModelManager;
 import seedu.boba.model.ReadOnlyBobaBot;
 import seedu.boba.model.UserPrefs;
 import seedu.boba.model.customer.Customer;
+import seedu.boba.storage.BobaBotStorage;
 import seedu.boba.storage.JsonBobaBotStorage;
 import seedu.boba.storage.JsonUserPrefsStorage;
 import seedu.boba.storage.StorageManager;
@@ -91,11 +96,111 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonBobaBotSaveCountingStub addressBookStorage =
+                new JsonBobaBotSaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        setUpLogicWith(addressBookStorage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesOnlyOnce() throws Exception {
+        JsonBobaBotSaveCountingStub addressBookStorage =
+                new JsonBobaBotSaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        setUpLogicWith(addressBookStorage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + BIRTHDAY_MONTH_DESC_AMY + REWARD_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+        assertFalse(bobaBotModel.hasUnsavedChanges());
+
+        // nothing has changed since the add command, so there is nothing to save
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_keepsUnsavedChanges() {
+        setUpLogicWith(new JsonBobaBotIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json")));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + BIRTHDAY_MONTH_DESC_AMY + REWARD_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+        assertTrue(bobaBotModel.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_reportsAndRetriesSave() throws Exception {
+        JsonBobaBotDeferredWritingStub addressBookStorage =
+                new JsonBobaBotDeferredWritingStub(temporaryFolder.resolve("deferredAddressBook.json"));
+        setUpLogicWith(addressBookStorage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + BIRTHDAY_MONTH_DESC_AMY + REWARD_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+        addressBookStorage.failPendingSaves();
+
+        // the failure is reported by the next command, even a read-only one, which saves again
+        String expectedMessage = LogicManager.EARLIER_SAVE_FAILED_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(2, addressBookStorage.saveCount);
+
+        addressBookStorage.writePendingSaves();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, addressBookStorage.saveCount);
+        assertFalse(bobaBotModel.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailedThenInvalidCommand_reportsFailedSave() throws Exception {
+        JsonBobaBotDeferredWritingStub addressBookStorage =
+                new JsonBobaBotDeferredWritingStub(temporaryFolder.resolve("deferredAddressBook.json"));
+        setUpLogicWith(addressBookStorage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + BIRTHDAY_MONTH_DESC_AMY + REWARD_DESC_AMY);
+        addressBookStorage.failPendingSaves();
+
+        // the failed save is reported instead of the invalid command, and saved again
+        String expectedMessage = LogicManager.EARLIER_SAVE_FAILED_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute("uicfhmowqewca"));
+        assertEquals(2, addressBookStorage.saveCount);
+        assertFalse(bobaBotModel.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailedAfterLaterSaveWritten_doesNotSaveAgain() throws Exception {
+        JsonBobaBotDeferredWritingStub addressBookStorage =
+                new JsonBobaBotDeferredWritingStub(temporaryFolder.resolve("deferredAddressBook.json"));
+        setUpLogicWith(addressBookStorage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + BIRTHDAY_MONTH_DESC_AMY + REWARD_DESC_AMY);
+        addressBookStorage.writePendingSaves();
+        addressBookStorage.unreportedFailure = DUMMY_IO_EXCEPTION;
+
+        // the data has been written since, so the failure is reported without saving again
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+        assertEquals(1, addressBookStorage.saveCount);
+        assertFalse(bobaBotModel.hasUnsavedChanges());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    /**
+     * Replaces {@code logic} with one that saves the BobaBot to {@code addressBookStorage}.
+     */
+    private void setUpLogicWith(BobaBotStorage addressBookStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(bobaBotModel, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -162,4 +267,60 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that only writes the saves made with a callback when told to, like a storage that writes in the
+     * background, and counts the number of such saves.
+     */
+    private static class JsonBobaBotDeferredWritingStub extends JsonBobaBotStorage {
+        private final List<Runnable> pendingCallbacks = new ArrayList<>();
+        private IOException unreportedFailure;
+        private int saveCount = 0;
+
+        private JsonBobaBotDeferredWritingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveBobaBot(ReadOnlyBobaBot addressBook, Runnable onWritten) {
+            saveCount++;
+            pendingCallbacks.add(onWritten);
+        }
+
+        @Override
+        public void reportFailedSaves() throws IOException {
+            IOException failure = unreportedFailure;
+            unreportedFailure = null;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void writePendingSaves() {
+            pendingCallbacks.forEach(Runnable::run);
+            pendingCallbacks.clear();
+        }
+
+        private void failPendingSaves() {
+            pendingCallbacks.clear();
+            unreportedFailure = DUMMY_IO_EXCEPTION;
+        }
+    }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class JsonBobaBotSaveCountingStub extends JsonBobaBotStorage {
+        private int saveCount = 0;
+
+        private JsonBobaBotSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveBobaBot(ReadOnlyBobaBot addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveBobaBot(addressBook, filePath);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import static seedu.boba.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -137,6 +138,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Customer> customers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setBobaBot(ReadOnlyBobaBot newData) {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +178,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void showRankedPersonList(List<Customer> rankedCustomers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int findNum(Phone phone) {
             throw new AssertionError("This method should not be called.");
@@ -202,6 +213,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long markBobaBotSaving() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markBobaBotSaved(long version) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markBobaBotSaveFailed() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void redoBobaBot() throws NextStateNotFoundException {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,61 @@
+package seedu.boba.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.BobaBotModel;
+import seedu.boba.model.BobaBotModelManager;
+import seedu.boba.model.UserPrefs;
+import seedu.boba.storage.CsvBobaBotStorage;
+
+/**
+ * Contains integration tests (interaction with the BobaBotModel) and unit tests for ExportCommand.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BobaBotModel bobaBotModel = new BobaBotModelManager(getTypicalBobaBot(), new UserPrefs());
+
+    @Test
+    public void execute_export_writesAllCustomers() throws Exception {
+        Path filePath = testFolder.resolve("members.csv");
+
+        CommandResult result = new ExportCommand(filePath).execute(bobaBotModel);
+
+        int customerCount = bobaBotModel.getBobaBot().getPersonList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, customerCount, filePath),
+                result.getFeedbackToUser());
+        BobaBot exported = new BobaBot(new CsvBobaBotStorage(filePath).readBobaBot().get());
+        assertTrue(new BobaBot(bobaBotModel.getBobaBot()).strictlyEquals(exported));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand standardCommand = new ExportCommand(testFolder.resolve("a.csv"));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new ExportCommand(testFolder.resolve("a.csv"))));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different file -> returns false
+        assertFalse(standardCommand.equals(new ExportCommand(testFolder.resolve("b.csv"))));
+    }
+}
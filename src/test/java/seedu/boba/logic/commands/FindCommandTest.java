@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.boba.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.boba.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
 import static seedu.boba.testutil.TypicalCustomers.CARL;
 import static seedu.boba.testutil.TypicalCustomers.ELLE;
 import static seedu.boba.testutil.TypicalCustomers.FIONA;
@@ -25,6 +26,7 @@ import seedu.boba.model.UserPrefs;
 import seedu.boba.model.customer.Email;
 import seedu.boba.model.customer.NameContainsKeywordsPredicate;
 import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.RankedNameSearch;
 
 /**
  * Contains integration tests (interaction with the BobaBotModel) for {@code FindCommand}.
@@ -80,6 +82,34 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), bobaBotModel.getFilteredPersonList());
     }
 
+    @Test
+    public void equals_rankedSearch() {
+        FindCommand findFirstCommand = new FindCommand(new RankedNameSearch(Collections.singletonList("first")));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindCommand(new RankedNameSearch(Collections.singletonList("first")))));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(
+                new FindCommand(new RankedNameSearch(Collections.singletonList("second")))));
+
+        // different kind of find -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(preparePredicate("first"))));
+    }
+
+    @Test
+    public void execute_rankedSearch_bestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(new RankedNameSearch(Arrays.asList("alcie", "kurz")));
+        expectedBobaBotModel.showRankedPersonList(Arrays.asList(CARL, ALICE, FIONA));
+        assertCommandSuccess(command, bobaBotModel, expectedMessage, expectedBobaBotModel);
+        assertEquals(Arrays.asList(CARL, ALICE, FIONA), bobaBotModel.getFilteredPersonList());
+
+        // the next filter shows customers in their usual order again
+        bobaBotModel.updateFilteredPersonList(preparePredicate("Kurz Alice Kunz"));
+        assertEquals(Arrays.asList(ALICE, CARL, FIONA), bobaBotModel.getFilteredPersonList());
+    }
+
     @Test
     public void execute_validPhoneArg_success() {
         FindCommand.FindPersonDescriptor findPersonDescriptor = new FindCommand.FindPersonDescriptor();
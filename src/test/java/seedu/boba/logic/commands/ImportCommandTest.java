@@ -0,0 +1,121 @@
+package seedu.boba.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.HOON;
+import static seedu.boba.testutil.TypicalCustomers.IDA;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.BobaBotModel;
+import seedu.boba.model.BobaBotModelManager;
+import seedu.boba.model.UserPrefs;
+import seedu.boba.storage.CsvBobaBotStorage;
+
+/**
+ * Contains integration tests (interaction with the BobaBotModel) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BobaBotModel bobaBotModel = new BobaBotModelManager(getTypicalBobaBot(), new UserPrefs());
+
+    @Test
+    public void execute_newAndExistingCustomers_addsNewCustomersOnly() throws Exception {
+        BobaBot customers = new BobaBot();
+        customers.addPerson(HOON);
+        customers.addPerson(ALICE);
+        customers.addPerson(IDA);
+        Path filePath = testFolder.resolve("members.csv");
+        new CsvBobaBotStorage(filePath, 0).saveBobaBot(customers);
+        int originalSize = bobaBotModel.getBobaBot().getPersonList().size();
+
+        CommandResult result = new ImportCommand(filePath).execute(bobaBotModel);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath, 1), result.getFeedbackToUser());
+        assertEquals(originalSize + 2, bobaBotModel.getBobaBot().getPersonList().size());
+        assertTrue(bobaBotModel.hasPerson(HOON));
+        assertTrue(bobaBotModel.hasPerson(IDA));
+    }
+
+    @Test
+    public void execute_import_undoneInOneStep() throws Exception {
+        BobaBot original = new BobaBot(bobaBotModel.getBobaBot());
+        Path filePath = testFolder.resolve("members.csv");
+        Files.write(filePath, Arrays.asList(CsvBobaBotStorage.HEADER,
+                "Hoon Meier,84824241,stefan@example.com,8,222324,",
+                "Ida Mueller,84821311,hans@example.com,9,252627,"));
+
+        new ImportCommand(filePath).execute(bobaBotModel);
+        bobaBotModel.commitBobaBot();
+        bobaBotModel.undoBobaBot();
+
+        assertTrue(original.strictlyEquals(new BobaBot(bobaBotModel.getBobaBot())));
+    }
+
+    @Test
+    public void execute_repeatedPhoneOrEmail_skipsRepeatedRows() throws Exception {
+        Path filePath = testFolder.resolve("members.csv");
+        Files.write(filePath, Arrays.asList(CsvBobaBotStorage.HEADER,
+                "Hoon Meier,84824241,stefan@example.com,8,222324,",
+                "Hoon Meier,84824241,stefan@example.com,8,222324,",
+                "Ida Mueller,84821311,stefan@example.com,9,252627,",
+                "Ida Mueller,84821311,hans@example.com,9,252627,"));
+        int originalSize = bobaBotModel.getBobaBot().getPersonList().size();
+
+        CommandResult result = new ImportCommand(filePath).execute(bobaBotModel);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath, 3), result.getFeedbackToUser());
+        assertEquals(originalSize + 1, bobaBotModel.getBobaBot().getPersonList().size());
+        assertTrue(bobaBotModel.hasPerson(HOON));
+        assertFalse(bobaBotModel.hasPerson(IDA));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), bobaBotModel,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("members.csv");
+        Files.write(filePath, Arrays.asList("Hoon Meier,84824241,stefan@example.com,8,222324,"));
+
+        assertCommandFailure(new ImportCommand(filePath), bobaBotModel,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_READ, filePath, CsvBobaBotStorage.MESSAGE_MISSING_HEADER));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand standardCommand = new ImportCommand(testFolder.resolve("a.csv"));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new ImportCommand(testFolder.resolve("a.csv"))));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ExportCommand(testFolder.resolve("a.csv"))));
+
+        // different file -> returns false
+        assertFalse(standardCommand.equals(new ImportCommand(testFolder.resolve("b.csv"))));
+    }
+}
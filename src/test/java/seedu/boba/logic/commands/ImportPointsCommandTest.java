@@ -0,0 +1,162 @@
+package seedu.boba.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BENSON;
+import static seedu.boba.testutil.TypicalCustomers.CARL;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.commons.core.Messages;
+import seedu.boba.logic.commands.exceptions.CommandException;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.BobaBotModel;
+import seedu.boba.model.BobaBotModelManager;
+import seedu.boba.model.UserPrefs;
+import seedu.boba.model.customer.Reward;
+import seedu.boba.testutil.CustomerBuilder;
+
+/**
+ * Contains integration tests (interaction with the BobaBotModel) and unit tests for ImportPointsCommand.
+ */
+public class ImportPointsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BobaBotModel bobaBotModel = new BobaBotModelManager(getTypicalBobaBot(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportPointsCommand(null));
+    }
+
+    @Test
+    public void execute_validRows_allApplied() throws Exception {
+        Path filePath = writeRows("phone_or_email,points",
+                ALICE.getPhone() + ",100",
+                "\"" + BENSON.getEmail() + "\", -56",
+                "",
+                ALICE.getPhone() + ",-23");
+
+        CommandResult result = new ImportPointsCommand(filePath).execute(bobaBotModel);
+
+        assertEquals(String.format(ImportPointsCommand.MESSAGE_SUCCESS, 3, 3, filePath), result.getFeedbackToUser());
+        assertEquals(new Reward(200), bobaBotModel.getCurrentReward(ALICE.getPhone()));
+        assertEquals(new Reward(400), bobaBotModel.getCurrentReward(BENSON.getPhone()));
+    }
+
+    @Test
+    public void execute_invalidRows_reportedWithoutAbortingBatch() throws Exception {
+        bobaBotModel.setPerson(CARL, new CustomerBuilder(CARL).withReward(String.valueOf(Long.MAX_VALUE)).build());
+        Path filePath = writeRows(ALICE.getPhone() + ",100",
+                "00000000,100",
+                CARL.getPhone() + ",1",
+                BENSON.getPhone() + ",-457",
+                "not a customer,5",
+                BENSON.getPhone() + ",lots",
+                BENSON.getPhone().value,
+                BENSON.getPhone() + ",1");
+
+        CommandResult result = new ImportPointsCommand(filePath).execute(bobaBotModel);
+
+        String expectedMessage = String.join("\n",
+                String.format(ImportPointsCommand.MESSAGE_SUCCESS, 2, 8, filePath),
+                String.format(ImportPointsCommand.MESSAGE_ROW_FAILED, 2, Messages.MESSAGE_INVALID_PERSON_INFORMATION),
+                String.format(ImportPointsCommand.MESSAGE_ROW_FAILED, 3, Reward.MESSAGE_MAX_EXCEEDED),
+                String.format(ImportPointsCommand.MESSAGE_ROW_FAILED, 4, Reward.MESSAGE_NEGATIVE),
+                String.format(ImportPointsCommand.MESSAGE_ROW_FAILED, 5,
+                        String.format(ImportPointsCommand.MESSAGE_INVALID_IDENTIFIER, "not a customer")),
+                String.format(ImportPointsCommand.MESSAGE_ROW_FAILED, 6,
+                        String.format(ImportPointsCommand.MESSAGE_INVALID_DELTA, "lots")),
+                String.format(ImportPointsCommand.MESSAGE_ROW_FAILED, 7, ImportPointsCommand.MESSAGE_INVALID_ROW));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(new Reward(223), bobaBotModel.getCurrentReward(ALICE.getPhone()));
+        assertEquals(new Reward(457), bobaBotModel.getCurrentReward(BENSON.getPhone()));
+        assertEquals(new Reward(Long.MAX_VALUE), bobaBotModel.getCurrentReward(CARL.getPhone()));
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportsLimitedFailures() throws Exception {
+        int failureCount = ImportPointsCommand.MAX_REPORTED_FAILURES + 5;
+        Path filePath = writeRows(Collections.nCopies(failureCount, "00000000,1").toArray(new String[0]));
+
+        CommandResult result = new ImportPointsCommand(filePath).execute(bobaBotModel);
+
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(ImportPointsCommand.MAX_REPORTED_FAILURES + 2, lines.length);
+        assertEquals(String.format(ImportPointsCommand.MESSAGE_MORE_ROWS_FAILED, 5), lines[lines.length - 1]);
+    }
+
+    @Test
+    public void execute_batch_undoneInOneStep() throws Exception {
+        BobaBot original = new BobaBot(bobaBotModel.getBobaBot());
+        Path filePath = writeRows(ALICE.getPhone() + ",100", BENSON.getPhone() + ",100", CARL.getPhone() + ",100");
+
+        new ImportPointsCommand(filePath).execute(bobaBotModel);
+        bobaBotModel.commitBobaBot();
+        bobaBotModel.undoBobaBot();
+
+        assertTrue(original.strictlyEquals(bobaBotModel.getBobaBot()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        ImportPointsCommand command = new ImportPointsCommand(filePath);
+
+        assertThrows(CommandException.class, () -> command.execute(bobaBotModel));
+    }
+
+    @Test
+    public void execute_fileUnreadablePartWay_leavesBobaBotUnchanged() throws Exception {
+        BobaBot original = new BobaBot(bobaBotModel.getBobaBot());
+        // enough valid rows that some are read before the reader reaches the bytes that are not UTF-8
+        Path filePath = writeRows(Collections.nCopies(2000, ALICE.getPhone() + ",1").toArray(new String[0]));
+        Files.write(filePath, new byte[] {(byte) 0xC3, (byte) 0x28, '\n'}, StandardOpenOption.APPEND);
+        ImportPointsCommand command = new ImportPointsCommand(filePath);
+
+        assertThrows(CommandException.class, () -> command.execute(bobaBotModel));
+        assertTrue(original.strictlyEquals(bobaBotModel.getBobaBot()));
+    }
+
+    @Test
+    public void equals() {
+        ImportPointsCommand standardCommand = new ImportPointsCommand(testFolder.resolve("a.csv"));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new ImportPointsCommand(testFolder.resolve("a.csv"))));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different file -> returns false
+        assertFalse(standardCommand.equals(new ImportPointsCommand(testFolder.resolve("b.csv"))));
+    }
+
+    private Path writeRows(String... rows) throws IOException {
+        Path filePath = testFolder.resolve("points.csv");
+        List<String> lines = Arrays.asList(rows);
+        Files.write(filePath, lines);
+        return filePath;
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.boba.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
 import static seedu.boba.testutil.TypicalCustomers.ALICE_INCREMENT;
 import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
 import static seedu.boba.testutil.TypicalEmails.EMAIL_FIRST_PERSON;
@@ -21,6 +22,8 @@ import seedu.boba.model.UserPrefs;
 import seedu.boba.model.customer.Customer;
 import seedu.boba.model.customer.Email;
 import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.Reward;
+import seedu.boba.testutil.CustomerBuilder;
 
 /**
  * Contains integration tests (interaction with the BobaBotModel) and unit tests for IncreaseCommand.
@@ -72,6 +75,30 @@ public class IncreaseCommandTest {
         assertCommandFailure(increaseCommand, bobaBotModel, Messages.MESSAGE_INVALID_PERSON_INFORMATION);
     }
 
+    @Test
+    public void execute_rewardBeyondIntegerRange_success() {
+        Customer customer = new CustomerBuilder(ALICE).withReward(String.valueOf(Integer.MAX_VALUE)).build();
+        bobaBotModel.setPerson(ALICE, customer);
+        Customer editedCustomer = new CustomerBuilder(ALICE)
+                .withReward(String.valueOf(Integer.MAX_VALUE + 100L)).build();
+        IncreaseCommand increaseCommand = new IncreaseCommand(PHONE_FIRST_PERSON, "100");
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedCustomer);
+
+        BobaBotModel expectedBobaBotModel = new BobaBotModelManager(
+                new BobaBot(bobaBotModel.getBobaBot()), new UserPrefs());
+        expectedBobaBotModel.setPerson(customer, editedCustomer);
+        assertCommandSuccess(increaseCommand, bobaBotModel, expectedMessage, expectedBobaBotModel);
+    }
+
+    @Test
+    public void execute_rewardOverflow_failure() {
+        bobaBotModel.setPerson(ALICE, new CustomerBuilder(ALICE).withReward(String.valueOf(Long.MAX_VALUE)).build());
+        IncreaseCommand increaseCommand = new IncreaseCommand(PHONE_FIRST_PERSON, "1");
+
+        assertCommandFailure(increaseCommand, bobaBotModel, Reward.MESSAGE_MAX_EXCEEDED);
+    }
+
     @Test
     public void equals() {
         final IncreaseCommand standardCommand = new IncreaseCommand(PHONE_FIRST_PERSON, "100");
@@ -10,6 +10,7 @@ import static seedu.boba.testutil.Assert.assertThrows;
 import static seedu.boba.testutil.TypicalEmails.EMAIL_FIRST_PERSON;
 import static seedu.boba.testutil.TypicalPhones.PHONE_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,8 +26,11 @@ import seedu.boba.logic.commands.DeleteCommand;
 import seedu.boba.logic.commands.EditCommand;
 import seedu.boba.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.boba.logic.commands.ExitCommand;
+import seedu.boba.logic.commands.ExportCommand;
 import seedu.boba.logic.commands.FindCommand;
 import seedu.boba.logic.commands.HelpCommand;
+import seedu.boba.logic.commands.ImportCommand;
+import seedu.boba.logic.commands.ImportPointsCommand;
 import seedu.boba.logic.commands.IncreaseCommand;
 import seedu.boba.logic.commands.ListCommand;
 import seedu.boba.logic.commands.RedoCommand;
@@ -106,6 +110,25 @@ public class BobaBotParserTest {
         assertEquals(new DecreaseCommand(PHONE_FIRST_PERSON, "10"), command);
     }
 
+    @Test
+    public void parseCommand_importPoints() throws Exception {
+        ImportPointsCommand command = (ImportPointsCommand) parser.parseCommand(ImportPointsCommand.COMMAND_WORD
+                + " data/pos-export.csv");
+        assertEquals(new ImportPointsCommand(Paths.get("data", "pos-export.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/members.csv");
+        assertEquals(new ImportCommand(Paths.get("data", "members.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " data/members.csv");
+        assertEquals(new ExportCommand(Paths.get("data", "members.csv")), command);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
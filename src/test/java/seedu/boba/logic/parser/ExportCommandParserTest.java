@@ -0,0 +1,28 @@
+package seedu.boba.logic.parser;
+
+import static seedu.boba.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.boba.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.commons.core.Messages;
+import seedu.boba.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, "  data/members.csv ",
+                new ExportCommand(Paths.get("data", "members.csv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.boba.logic.parser;
 
 import static seedu.boba.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.boba.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.boba.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.boba.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.boba.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.boba.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
@@ -16,6 +17,7 @@ import seedu.boba.logic.commands.FindCommand;
 import seedu.boba.model.customer.Email;
 import seedu.boba.model.customer.MultiSearchPredicate;
 import seedu.boba.model.customer.Phone;
+import seedu.boba.model.customer.RankedNameSearch;
 
 public class FindCommandParserTest {
 
@@ -56,4 +58,27 @@ public class FindCommandParserTest {
         String userInput = " " + EMAIL_DESC_AMY;
         assertParseSuccess(parser, userInput, expectedFindCommand);
     }
+
+    @Test
+    public void parse_validNames_returnsRankedFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new RankedNameSearch(Arrays.asList("Alice", "Bob")));
+        assertParseSuccess(parser, " n/Alice Bob", expectedFindCommand);
+
+        // multiple whitespaces between names
+        assertParseSuccess(parser, " n/ \n Alice \n \t Bob  \t", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidNames_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // no names
+        assertParseFailure(parser, " n/  ", expectedMessage);
+
+        // names with other arguments
+        assertParseFailure(parser, " Alice n/Bob", expectedMessage);
+        assertParseFailure(parser, NAME_DESC_AMY + PHONE_DESC_AMY, expectedMessage);
+        assertParseFailure(parser, NAME_DESC_AMY + NAME_DESC_AMY, expectedMessage);
+    }
 }
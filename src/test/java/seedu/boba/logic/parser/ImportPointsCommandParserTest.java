@@ -0,0 +1,28 @@
+package seedu.boba.logic.parser;
+
+import static seedu.boba.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.boba.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.commons.core.Messages;
+import seedu.boba.logic.commands.ImportPointsCommand;
+
+public class ImportPointsCommandParserTest {
+
+    private final ImportPointsCommandParser parser = new ImportPointsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportPointsCommand() {
+        assertParseSuccess(parser, "  data/pos-export.csv ",
+                new ImportPointsCommand(Paths.get("data", "pos-export.csv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ImportPointsCommand.MESSAGE_USAGE));
+    }
+}
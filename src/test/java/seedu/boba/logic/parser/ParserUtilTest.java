@@ -6,6 +6,7 @@ import static seedu.boba.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.boba.testutil.Assert.assertThrows;
 import static seedu.boba.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -112,6 +113,11 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseReward(INVALID_REWARD));
     }
 
+    @Test
+    public void parseReward_beyondIntegerRange_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> ParserUtil.parseReward("2147483648"));
+    }
+
     @Test
     public void parseReward_validValueWithoutWhitespace_returnsReward() throws Exception {
         Reward expectedReward = new Reward(VALID_REWARD);
@@ -125,6 +131,21 @@ public class ParserUtilTest {
         assertEquals(expectedReward, ParserUtil.parseReward(rewardWithWhitespace));
     }
 
+    @Test
+    public void parseFilePath_blank_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath(WHITESPACE));
+    }
+
+    @Test
+    public void parseFilePath_invalidPath_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath("data/\0members.csv"));
+    }
+
+    @Test
+    public void parseFilePath_validPathWithWhitespace_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data", "members.csv"), ParserUtil.parseFilePath(WHITESPACE + "data/members.csv"));
+    }
+
     @Test
     public void parseEmail_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseEmail((String) null));
@@ -160,14 +181,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseTag_validValueWithoutWhitespace_returnsTag() throws Exception {
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
@@ -189,7 +210,7 @@ public class ParserUtilTest {
     @Test
     public void parseTags_collectionWithValidTags_returnsTagSet() throws Exception {
         Set<Tag> actualTagSet = ParserUtil.parseTags(Arrays.asList(VALID_TAG_1, VALID_TAG_2));
-        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(new Tag(VALID_TAG_1), new Tag(VALID_TAG_2)));
+        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(Tag.of(VALID_TAG_1), Tag.of(VALID_TAG_2)));
 
         assertEquals(expectedTagSet, actualTagSet);
     }
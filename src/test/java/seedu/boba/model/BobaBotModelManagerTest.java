@@ -15,8 +15,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.boba.commons.core.GuiSettings;
+import seedu.boba.model.customer.MultiSearchPredicate;
 import seedu.boba.model.customer.NameContainsKeywordsPredicate;
+import seedu.boba.model.exceptions.PreviousStateNotFoundException;
 import seedu.boba.testutil.BobaBotBuilder;
+import seedu.boba.testutil.CustomerBuilder;
 
 public class BobaBotModelManagerTest {
 
@@ -88,11 +91,90 @@ public class BobaBotModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void markBobaBotSaveFailed_saveNotWritten_hasUnsavedChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.markBobaBotSaving();
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        modelManager.markBobaBotSaveFailed();
+        assertTrue(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void markBobaBotSaveFailed_latestSaveWritten_noUnsavedChanges() {
+        modelManager.addPerson(ALICE);
+        long olderVersion = modelManager.markBobaBotSaving();
+        modelManager.addPerson(BENSON);
+        long latestVersion = modelManager.markBobaBotSaving();
+
+        // versions written out of order only count the latest as written
+        modelManager.markBobaBotSaved(latestVersion);
+        modelManager.markBobaBotSaved(olderVersion);
+        modelManager.markBobaBotSaveFailed();
+        assertFalse(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void undoBobaBot_customerRestoredWhileFiltered_shownIfMatching() {
+        modelManager = new BobaBotModelManager(new BobaBotBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        modelManager.commitBobaBot();
+        modelManager.updateFilteredPersonList(new MultiSearchPredicate(Arrays.asList("alice")));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.undoBobaBot();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undoRedo_deltaUndoMode_revertsAndReappliesChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoMode(UndoMode.DELTA);
+        modelManager = new BobaBotModelManager(new BobaBotBuilder().withPerson(ALICE).build(), userPrefs);
+        modelManager.addPerson(BENSON);
+        modelManager.commitBobaBot();
+        modelManager.deletePerson(ALICE);
+        modelManager.commitBobaBot();
+
+        modelManager.undoBobaBot();
+        assertEquals(new BobaBotBuilder().withPerson(ALICE).withPerson(BENSON).build(), modelManager.getBobaBot());
+        modelManager.undoBobaBot();
+        assertEquals(new BobaBotBuilder().withPerson(ALICE).build(), modelManager.getBobaBot());
+        modelManager.redoBobaBot();
+        modelManager.redoBobaBot();
+        assertEquals(new BobaBotBuilder().withPerson(BENSON).build(), modelManager.getBobaBot());
+    }
+
+    @Test
+    public void commitBobaBot_noChanges_doesNotAddUndoableState() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitBobaBot();
+        modelManager.commitBobaBot();
+
+        modelManager.undoBobaBot();
+        assertEquals(new BobaBot(), modelManager.getBobaBot());
+        assertThrows(PreviousStateNotFoundException.class, () -> modelManager.undoBobaBot());
+    }
+
+    @Test
+    public void commitBobaBot_noOpEdit_doesNotAddUndoableState() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitBobaBot();
+        modelManager.setPerson(ALICE, new CustomerBuilder(ALICE).build());
+        modelManager.commitBobaBot();
+
+        modelManager.undoBobaBot();
+        assertEquals(new BobaBot(), modelManager.getBobaBot());
+        assertThrows(PreviousStateNotFoundException.class, () -> modelManager.undoBobaBot());
+    }
+
     @Test
     public void equals() {
         BobaBot bobaBot = new BobaBotBuilder().withPerson(ALICE).withPerson(BENSON).build();
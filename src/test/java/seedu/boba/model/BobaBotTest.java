@@ -70,6 +70,21 @@ public class BobaBotTest {
         assertThrows(DuplicatePersonException.class, () -> bobaBot.resetData(newData));
     }
 
+    @Test
+    public void restoreData_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bobaBot.restoreData((BobaBot) null));
+    }
+
+    @Test
+    public void restoreData_withBobaBot_replacesDataAndIndexes() {
+        bobaBot.addPerson(BOB);
+        BobaBot snapshot = getTypicalBobaBot();
+        bobaBot.restoreData(snapshot);
+        assertEquals(snapshot, bobaBot);
+        assertFalse(bobaBot.hasPerson(BOB));
+        assertEquals(0, bobaBot.findNum(ALICE.getPhone()));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bobaBot.hasPerson(null));
@@ -0,0 +1,96 @@
+package seedu.boba.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BENSON;
+import static seedu.boba.testutil.TypicalCustomers.BOB;
+import static seedu.boba.testutil.TypicalCustomers.CARL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.exceptions.NextStateNotFoundException;
+import seedu.boba.model.exceptions.PreviousStateNotFoundException;
+
+public class DeltaBobaBotHistoryTest {
+
+    private final BobaBot bobaBot = new BobaBot();
+    private final DeltaBobaBotHistory history = new DeltaBobaBotHistory();
+
+    @Test
+    public void commit_noChangesRecorded_noStepSaved() {
+        history.commit(bobaBot);
+        assertEquals(0, history.getUndoableStepCount());
+        assertThrows(PreviousStateNotFoundException.class, () -> history.undo(bobaBot));
+    }
+
+    @Test
+    public void undoRedo_addRemoveAndSet_restoresEachState() {
+        addPerson(0, ALICE);
+        addPerson(1, BENSON);
+        addPerson(2, CARL);
+        history.commit(bobaBot);
+
+        bobaBot.removePerson(BENSON);
+        history.recordRemove(1, BENSON);
+        bobaBot.setPerson(ALICE, BOB);
+        history.recordSet(ALICE, BOB);
+        history.commit(bobaBot);
+        assertEquals(Arrays.asList(BOB, CARL), bobaBot.getPersonList());
+
+        history.undo(bobaBot);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), bobaBot.getPersonList());
+        assertEquals(1, bobaBot.findNum(BENSON.getPhone()));
+
+        history.undo(bobaBot);
+        assertEquals(Arrays.asList(), bobaBot.getPersonList());
+        assertThrows(PreviousStateNotFoundException.class, () -> history.undo(bobaBot));
+
+        history.redo(bobaBot);
+        history.redo(bobaBot);
+        assertEquals(Arrays.asList(BOB, CARL), bobaBot.getPersonList());
+        assertThrows(NextStateNotFoundException.class, () -> history.redo(bobaBot));
+    }
+
+    @Test
+    public void recordReset_undo_restoresPreviousList() {
+        addPerson(0, ALICE);
+        history.commit(bobaBot);
+        BobaBot cleared = new BobaBot();
+        history.recordReset(bobaBot.getPersonSnapshot(), cleared.getPersonSnapshot());
+        bobaBot.resetData(cleared);
+        history.commit(bobaBot);
+
+        history.undo(bobaBot);
+        assertEquals(Arrays.asList(ALICE), bobaBot.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableSteps() {
+        addPerson(0, ALICE);
+        history.commit(bobaBot);
+        history.undo(bobaBot);
+        addPerson(0, CARL);
+        history.commit(bobaBot);
+        assertEquals(0, history.getRedoableStepCount());
+        assertEquals(1, history.getUndoableStepCount());
+    }
+
+    @Test
+    public void commit_exceedsStepLimit_dropsOldestStep() {
+        DeltaBobaBotHistory limitedHistory = new DeltaBobaBotHistory(2);
+        for (int i = 0; i < 3; i++) {
+            limitedHistory.recordAdd(i, ALICE);
+            limitedHistory.commit(bobaBot);
+        }
+        assertEquals(2, limitedHistory.getUndoableStepCount());
+    }
+
+    private void addPerson(int index, Customer customer) {
+        bobaBot.addPerson(index, customer);
+        history.recordAdd(index, customer);
+    }
+}
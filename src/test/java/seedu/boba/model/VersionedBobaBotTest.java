@@ -1,11 +1,15 @@
 package seedu.boba.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.boba.testutil.Assert.assertThrows;
 import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BOB;
 import static seedu.boba.testutil.TypicalCustomers.CARL;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.boba.model.exceptions.NextStateNotFoundException;
@@ -148,6 +152,20 @@ public class VersionedBobaBotTest {
         assertEquals(versionedBobaBot.toString(), expectedMessage);
     }
 
+    @Test
+    public void undoAfterEdit_restoresCustomerAndIndexes() {
+        BobaBot editedBobaBot = new BobaBot();
+        editedBobaBot.addPerson(ALICE);
+        editedBobaBot.addPerson(CARL);
+        VersionedBobaBot versionedBobaBot = new VersionedBobaBot(editedBobaBot);
+        editedBobaBot.setPerson(ALICE, BOB);
+        versionedBobaBot.commit(editedBobaBot);
+        versionedBobaBot.undo(editedBobaBot);
+        assertEquals(Arrays.asList(ALICE, CARL), editedBobaBot.getPersonList());
+        assertEquals(0, editedBobaBot.findNum(ALICE.getPhone()));
+        assertFalse(editedBobaBot.hasPerson(BOB));
+    }
+
     @Test
     public void commitAfterAnUndo() {
         VersionedBobaBot versionedBobaBot = new VersionedBobaBot(bbt);
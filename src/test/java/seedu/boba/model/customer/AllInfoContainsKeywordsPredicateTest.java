@@ -0,0 +1,94 @@
+package seedu.boba.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.testutil.CustomerBuilder;
+
+public class AllInfoContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        AllInfoContainsKeywordsPredicate firstPredicate =
+                new AllInfoContainsKeywordsPredicate(firstPredicateKeywordList);
+        AllInfoContainsKeywordsPredicate secondPredicate =
+                new AllInfoContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AllInfoContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_detailsContainKeywords_returnsTrue() {
+        Customer customer = new CustomerBuilder().withName("Alice Bob").withPhone("94351253")
+                .withEmail("alice@example.com").withTags("gold").build();
+
+        // Part of a name, in mixed case
+        assertTrue(new AllInfoContainsKeywordsPredicate(Collections.singletonList("aLI")).test(customer));
+
+        // Part of a phone number
+        assertTrue(new AllInfoContainsKeywordsPredicate(Collections.singletonList("1253")).test(customer));
+
+        // Email domain
+        assertTrue(new AllInfoContainsKeywordsPredicate(Collections.singletonList("example.com")).test(customer));
+
+        // Tag, with its brackets
+        assertTrue(new AllInfoContainsKeywordsPredicate(Collections.singletonList("[gold]")).test(customer));
+
+        // Only one matching keyword
+        assertTrue(new AllInfoContainsKeywordsPredicate(Arrays.asList("Carol", "Bob")).test(customer));
+    }
+
+    @Test
+    public void test_detailsDoNotContainKeywords_returnsFalse() {
+        Customer customer = new CustomerBuilder().withName("Alice Bob").withPhone("94351253")
+                .withEmail("alice@example.com").build();
+
+        // Zero keywords
+        assertFalse(new AllInfoContainsKeywordsPredicate(Collections.emptyList()).test(customer));
+
+        // Non-matching keyword
+        assertFalse(new AllInfoContainsKeywordsPredicate(Arrays.asList("Carol")).test(customer));
+    }
+
+    @Test
+    public void findMatches_agreesWithTest() {
+        UniqueCustomerList customers = new UniqueCustomerList();
+        customers.setPersons(getTypicalPersons());
+
+        for (List<String> keywords : List.of(List.of("meier"), List.of("ALI", "9482"), List.of("example.com"),
+                List.of("[friends]"), List.of("]["), List.of("s][f"), List.of("1"), List.of("nobody"),
+                List.<String>of())) {
+            AllInfoContainsKeywordsPredicate predicate = new AllInfoContainsKeywordsPredicate(keywords);
+            List<Customer> expected = getTypicalPersons().stream().filter(predicate).collect(Collectors.toList());
+            Set<Customer> matches = predicate.findMatches(customers);
+            assertEquals(expected.size(), matches.size());
+            assertTrue(matches.containsAll(expected));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.boba.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.testutil.CustomerBuilder;
+
+public class BirthdayMonthPredicateTest {
+
+    @Test
+    public void equals() {
+        BirthdayMonthPredicate firstPredicate = new BirthdayMonthPredicate(BirthdayMonth.of("1"));
+        BirthdayMonthPredicate secondPredicate = new BirthdayMonthPredicate(BirthdayMonth.of("2"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new BirthdayMonthPredicate(BirthdayMonth.of("1"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different month -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test() {
+        BirthdayMonthPredicate predicate = new BirthdayMonthPredicate(BirthdayMonth.of("3"));
+        assertTrue(predicate.test(new CustomerBuilder().withBirthdayMonth("3").build()));
+        assertFalse(predicate.test(new CustomerBuilder().withBirthdayMonth("4").build()));
+    }
+
+    @Test
+    public void findMatches_agreesWithTest() {
+        UniqueCustomerList customers = new UniqueCustomerList();
+        customers.setPersons(getTypicalPersons());
+
+        for (String month : List.of("1", "3", "12")) {
+            BirthdayMonthPredicate predicate = new BirthdayMonthPredicate(BirthdayMonth.of(month));
+            List<Customer> expected = getTypicalPersons().stream().filter(predicate).collect(Collectors.toList());
+            Set<Customer> matches = predicate.findMatches(customers);
+            assertEquals(expected.size(), matches.size());
+            assertTrue(matches.containsAll(expected));
+        }
+    }
+}
@@ -1,22 +1,39 @@
 package seedu.boba.model.customer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class BirthdayMonthTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new BirthdayMonth(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BirthdayMonth.of(null));
     }
 
     @Test
-    public void constructor_invalidBirthdayMonth_throwsIllegalArgumentException() {
+    public void of_invalidBirthdayMonth_throwsIllegalArgumentException() {
         String invalidBirthdayMonth = "";
-        assertThrows(IllegalArgumentException.class, () -> new BirthdayMonth(invalidBirthdayMonth));
+        assertThrows(IllegalArgumentException.class, () -> BirthdayMonth.of(invalidBirthdayMonth));
+    }
+
+    @Test
+    public void of_sameMonth_returnsSameBirthdayMonth() {
+        BirthdayMonth birthdayMonth = BirthdayMonth.of("7");
+        assertSame(birthdayMonth, BirthdayMonth.of("07"));
+        assertSame(birthdayMonth, BirthdayMonth.of("+7"));
+        assertEquals("7", birthdayMonth.value);
+    }
+
+    @Test
+    public void current_returnsCurrentMonth() {
+        assertSame(BirthdayMonth.of(String.valueOf(LocalDate.now().getMonthValue())), BirthdayMonth.current());
     }
 
     @Test
@@ -29,10 +46,17 @@ public class BirthdayMonthTest {
         assertFalse(BirthdayMonth.isValidBirthdayMonth(" ")); // spaces only
         assertFalse(BirthdayMonth.isValidBirthdayMonth("0")); // no month 0
         assertFalse(BirthdayMonth.isValidBirthdayMonth("13")); // no month 13
+        assertFalse(BirthdayMonth.isValidBirthdayMonth("-1")); // negative month
+        assertFalse(BirthdayMonth.isValidBirthdayMonth("+")); // sign only
+        assertFalse(BirthdayMonth.isValidBirthdayMonth(" 1")); // leading space
+        assertFalse(BirthdayMonth.isValidBirthdayMonth("1a")); // trailing letter
+        assertFalse(BirthdayMonth.isValidBirthdayMonth("99999999999")); // larger than an int
 
         // valid birthdayMonth
         assertTrue(BirthdayMonth.isValidBirthdayMonth("1")); // first month
         assertTrue(BirthdayMonth.isValidBirthdayMonth("12")); // last month
         assertTrue(BirthdayMonth.isValidBirthdayMonth("6")); // middle month
+        assertTrue(BirthdayMonth.isValidBirthdayMonth("007")); // leading zeros
+        assertTrue(BirthdayMonth.isValidBirthdayMonth("+5")); // explicit sign
     }
 }
@@ -1,5 +1,6 @@
 package seedu.boba.model.customer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.logic.commands.CommandTestUtil.VALID_BIRTHDAY_MONTH_BOB;
@@ -157,4 +158,25 @@ public class CustomerTest {
         editedAlice = new CustomerBuilder(ALICE).withTags(VALID_TAG_GOLD).build();
         assertFalse(ALICE.strictlyEquals(editedAlice));
     }
+
+    @Test
+    public void getSearchKey_allInfoInLowerCase() {
+        Customer customer = new CustomerBuilder().withName("Alice Pauline").withTags("Gold").build();
+        assertEquals(customer.getAllInfo().toLowerCase(), customer.getSearchKey());
+        assertTrue(customer.getSearchKey().contains("alice pauline"));
+    }
+
+    @Test
+    public void constructor_birthdayTagGiven_birthdayTagDropped() {
+        Customer customer = new CustomerBuilder().withTags("BDAY", VALID_TAG_GOLD).build();
+        assertEquals(new CustomerBuilder().withTags(VALID_TAG_GOLD).build().getTags(), customer.getTags());
+        assertFalse(customer.getSearchKey().contains("bday"));
+    }
+
+    @Test
+    public void hasBirthdayIn() {
+        Customer customer = new CustomerBuilder().withBirthdayMonth("11").build();
+        assertTrue(customer.hasBirthdayIn(BirthdayMonth.of("11")));
+        assertFalse(customer.hasBirthdayIn(BirthdayMonth.of("10")));
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.boba.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BENSON;
+import static seedu.boba.testutil.TypicalCustomers.CARL;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CustomerWordIndexTest {
+
+    private final CustomerWordIndex wordIndex = new CustomerWordIndex(AllInfoContainsKeywordsPredicate::wordsOf);
+
+    @BeforeEach
+    public void setUp() {
+        wordIndex.add(ALICE);
+        wordIndex.add(BENSON);
+        wordIndex.add(CARL);
+    }
+
+    @Test
+    public void findContaining_partOfPhone_returnsMatchingCustomers() {
+        // last digits of a phone number
+        assertEquals(Collections.singleton(ALICE), wordIndex.findContaining("1253"));
+
+        // shared by phone numbers of two customers
+        assertEquals(Set.of(ALICE, CARL), wordIndex.findContaining("35"));
+    }
+
+    @Test
+    public void findContaining_emailDomain_returnsAllCustomersWithDomain() {
+        assertEquals(Set.of(ALICE, BENSON, CARL), wordIndex.findContaining("@example.com"));
+    }
+
+    @Test
+    public void findContaining_trigramsPresentButNotInOrder_returnsNoCustomers() {
+        // "kur" and "urz" come from "kurz", but "urzkur" is in no word
+        assertTrue(wordIndex.findContaining("urzkur").isEmpty());
+    }
+
+    @Test
+    public void findContaining_removedCustomer_notReturned() {
+        wordIndex.remove(CARL);
+        assertTrue(wordIndex.findContaining("kurz").isEmpty());
+        assertTrue(wordIndex.findContaining("heinz").isEmpty());
+        assertEquals(Collections.singleton(ALICE), wordIndex.findContaining("35"));
+    }
+
+    @Test
+    public void findContaining_afterClear_returnsNoCustomers() {
+        wordIndex.clear();
+        assertTrue(wordIndex.findContaining("example").isEmpty());
+        assertTrue(wordIndex.findContaining("a").isEmpty());
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.boba.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.testutil.CustomerBuilder;
+
+public class MultiSearchPredicateTest {
+
+    @Test
+    public void test_birthdayKeyword_matchesBirthdaysThisMonth() {
+        BirthdayMonth currentMonth = BirthdayMonth.current();
+        BirthdayMonth otherMonth = BirthdayMonth.of(String.valueOf(Integer.parseInt(currentMonth.value) % 12 + 1));
+        Customer birthdayCustomer = new CustomerBuilder().withBirthdayMonth(currentMonth.value).build();
+        Customer otherCustomer = new CustomerBuilder().withPhone("91234567").withEmail("other@example.com")
+                .withBirthdayMonth(otherMonth.value).build();
+
+        MultiSearchPredicate predicate = new MultiSearchPredicate(Collections.singletonList("bday"));
+        assertTrue(predicate.test(birthdayCustomer));
+        assertFalse(predicate.test(otherCustomer));
+
+        UniqueCustomerList customers = new UniqueCustomerList();
+        customers.setPersons(List.of(birthdayCustomer, otherCustomer));
+        assertEquals(Collections.singleton(birthdayCustomer), predicate.findMatches(customers));
+    }
+}
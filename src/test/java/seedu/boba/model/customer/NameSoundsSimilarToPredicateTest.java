@@ -0,0 +1,84 @@
+package seedu.boba.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.testutil.CustomerBuilder;
+
+public class NameSoundsSimilarToPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSoundsSimilarToPredicate firstPredicate = new NameSoundsSimilarToPredicate(firstPredicateKeywordList);
+        NameSoundsSimilarToPredicate secondPredicate = new NameSoundsSimilarToPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsSimilarToPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeyword_returnsTrue() {
+        // Same spelling, different case
+        NameSoundsSimilarToPredicate predicate = new NameSoundsSimilarToPredicate(Collections.singletonList("alice"));
+        assertTrue(predicate.test(new CustomerBuilder().withName("Alice Bob").build()));
+
+        // Different spelling
+        predicate = new NameSoundsSimilarToPredicate(Collections.singletonList("Rupert"));
+        assertTrue(predicate.test(new CustomerBuilder().withName("Alice Robert").build()));
+
+        // Only one matching keyword
+        predicate = new NameSoundsSimilarToPredicate(Arrays.asList("Carol", "Meyer"));
+        assertTrue(predicate.test(new CustomerBuilder().withName("Benson Meier").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeyword_returnsFalse() {
+        // Zero keywords
+        NameSoundsSimilarToPredicate predicate = new NameSoundsSimilarToPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new CustomerBuilder().withName("Alice").build()));
+
+        // Non-matching keyword
+        predicate = new NameSoundsSimilarToPredicate(Arrays.asList("Carol"));
+        assertFalse(predicate.test(new CustomerBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void findMatches_agreesWithTest() {
+        UniqueCustomerList customers = new UniqueCustomerList();
+        customers.setPersons(getTypicalPersons());
+
+        for (List<String> keywords : List.of(List.of("Mayer"), List.of("Alise", "Kurtz"), List.of("Zed"),
+                List.<String>of())) {
+            NameSoundsSimilarToPredicate predicate = new NameSoundsSimilarToPredicate(keywords);
+            List<Customer> expected = getTypicalPersons().stream().filter(predicate).collect(Collectors.toList());
+            Set<Customer> matches = predicate.findMatches(customers);
+            assertEquals(expected.size(), matches.size());
+            assertTrue(matches.containsAll(expected));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.boba.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BENSON;
+import static seedu.boba.testutil.TypicalCustomers.CARL;
+import static seedu.boba.testutil.TypicalCustomers.DANIEL;
+import static seedu.boba.testutil.TypicalCustomers.ELLE;
+import static seedu.boba.testutil.TypicalCustomers.FIONA;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.boba.testutil.CustomerBuilder;
+
+public class RankedNameSearchTest {
+
+    @Test
+    public void constructor_noKeywords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RankedNameSearch(Collections.emptyList()));
+    }
+
+    @Test
+    public void equals() {
+        RankedNameSearch firstSearch = new RankedNameSearch(Collections.singletonList("first"));
+        RankedNameSearch secondSearch = new RankedNameSearch(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstSearch.equals(firstSearch));
+
+        // same values -> returns true
+        assertTrue(firstSearch.equals(new RankedNameSearch(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstSearch.equals(1));
+
+        // null -> returns false
+        assertFalse(firstSearch.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstSearch.equals(secondSearch));
+    }
+
+    @Test
+    public void score() {
+        RankedNameSearch search = new RankedNameSearch(Collections.singletonList("Meier"));
+
+        assertEquals(RankedNameSearch.EXACT_MATCH, search.score(customerNamed("Daniel meier")));
+        assertEquals(RankedNameSearch.PREFIX_MATCH, search.score(customerNamed("Ida Meiers")));
+        assertEquals(RankedNameSearch.SOUNDEX_MATCH, search.score(customerNamed("Elle Mayer")));
+        assertEquals(RankedNameSearch.SOUNDEX_MATCH + 1, search.score(customerNamed("Ida Meijer")));
+        assertEquals(RankedNameSearch.NO_MATCH, search.score(customerNamed("Ida Mueller")));
+
+        // Short keywords must match exactly
+        search = new RankedNameSearch(Collections.singletonList("ng"));
+        assertEquals(RankedNameSearch.NO_MATCH, search.score(customerNamed("Alice Ong")));
+
+        // Longer keywords tolerate more typing mistakes
+        search = new RankedNameSearch(Collections.singletonList("Pavlime"));
+        assertEquals(RankedNameSearch.SOUNDEX_MATCH + 2, search.score(customerNamed("Alice Pauline")));
+    }
+
+    @Test
+    public void score_belowBound_givesUpEarly() {
+        RankedNameSearch search = new RankedNameSearch(Collections.singletonList("Pavlime"));
+        Customer customer = customerNamed("Alice Pauline");
+
+        assertEquals(RankedNameSearch.SOUNDEX_MATCH + 2, search.score(customer, RankedNameSearch.SOUNDEX_MATCH + 3));
+        assertTrue(search.score(customer, RankedNameSearch.SOUNDEX_MATCH + 2) >= RankedNameSearch.SOUNDEX_MATCH + 2);
+    }
+
+    @Test
+    public void findTopMatches_bestMatchFirst() {
+        Customer exact = customerNamed("Daniel Meier");
+        Customer prefix = customerNamed("Ida Meiers");
+        Customer soundex = customerNamed("Elle Mayer");
+        Customer edit = customerNamed("Ida Meijer");
+        List<Customer> customers = Arrays.asList(edit, customerNamed("Alice Tan"), soundex, prefix, exact);
+
+        RankedNameSearch search = new RankedNameSearch(Collections.singletonList("meier"));
+        assertEquals(Arrays.asList(exact, prefix, soundex, edit), search.findTopMatches(customers, 10));
+        assertEquals(Arrays.asList(exact, prefix), search.findTopMatches(customers, 2));
+    }
+
+    @Test
+    public void findTopMatches_equalMatchesInListOrder() {
+        RankedNameSearch search = new RankedNameSearch(Collections.singletonList("Meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), search.findTopMatches(getTypicalPersons(), 10));
+        assertEquals(Arrays.asList(BENSON, DANIEL), search.findTopMatches(getTypicalPersons(), 2));
+
+        // Any keyword matching
+        search = new RankedNameSearch(Arrays.asList("alcie", "kurz"));
+        assertEquals(Arrays.asList(CARL, ALICE, FIONA), search.findTopMatches(getTypicalPersons(), 10));
+        assertEquals(Arrays.asList(CARL, ALICE), search.findTopMatches(getTypicalPersons(), 2));
+    }
+
+    @Test
+    public void findTopMatches_invalidLimit_throwsIllegalArgumentException() {
+        RankedNameSearch search = new RankedNameSearch(Collections.singletonList("Meier"));
+        assertThrows(IllegalArgumentException.class, () -> search.findTopMatches(getTypicalPersons(), 0));
+    }
+
+    private static Customer customerNamed(String name) {
+        return new CustomerBuilder().withName(name).build();
+    }
+}
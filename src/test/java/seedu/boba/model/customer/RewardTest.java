@@ -1,5 +1,6 @@
 package seedu.boba.model.customer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.boba.testutil.Assert.assertThrows;
@@ -34,4 +35,39 @@ public class RewardTest {
         assertTrue(Reward.isValidReward("000069")); // trailing zeroes
         assertTrue(Reward.isValidReward("99999999999999999999")); // long reward
     }
+
+    @Test
+    public void constructor_beyondIntegerRange_success() {
+        assertEquals(3_000_000_000L, new Reward("3000000000").value);
+        assertEquals(new Reward("3000000000"), new Reward(3_000_000_000L));
+    }
+
+    @Test
+    public void constructor_negativePoints_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Reward(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Reward("-1"));
+    }
+
+    @Test
+    public void increaseBy() {
+        Reward reward = new Reward(Integer.MAX_VALUE);
+        assertEquals(new Reward(Integer.MAX_VALUE + 100L), reward.increaseBy(100));
+
+        assertThrows(IllegalArgumentException.class, () -> reward.increaseBy(-1));
+        assertThrows(ArithmeticException.class, () -> new Reward(Long.MAX_VALUE).increaseBy(1));
+    }
+
+    @Test
+    public void decreaseBy() {
+        Reward reward = new Reward(100);
+        assertEquals(new Reward(0), reward.decreaseBy(100));
+
+        assertThrows(IllegalArgumentException.class, () -> reward.decreaseBy(-1));
+        assertThrows(IllegalArgumentException.class, Reward.MESSAGE_NEGATIVE, () -> reward.decreaseBy(101));
+    }
+
+    @Test
+    public void getDisplayValue_endsWithPoints() {
+        assertTrue(new Reward(1234).getDisplayValue().endsWith(" 1234"));
+    }
 }
@@ -7,14 +7,19 @@ import static seedu.boba.logic.commands.CommandTestUtil.VALID_REWARD_BOB;
 import static seedu.boba.logic.commands.CommandTestUtil.VALID_TAG_GOLD;
 import static seedu.boba.testutil.Assert.assertThrows;
 import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BENSON;
 import static seedu.boba.testutil.TypicalCustomers.BOB;
+import static seedu.boba.testutil.TypicalCustomers.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.transformation.FilteredList;
 import seedu.boba.model.customer.exceptions.DuplicatePersonException;
 import seedu.boba.model.customer.exceptions.PersonNotFoundException;
 import seedu.boba.testutil.CustomerBuilder;
@@ -52,6 +57,31 @@ public class UniqueCustomerListTest {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.add(null));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrderAndIndexed() throws Exception {
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.addAll(Arrays.asList(BENSON, CARL));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueCustomerList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueCustomerList.findNum(CARL.getPhone()));
+        assertEquals(1, uniqueCustomerList.findEmail(BENSON.getEmail()));
+        assertEquals(uniqueCustomerList.asUnmodifiableObservableList(), uniqueCustomerList.asPersistentList());
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniqueCustomerList.add(ALICE);
+        Customer aliceByEmail = new CustomerBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniqueCustomerList.addAll(Arrays.asList(CARL,
+                aliceByEmail)));
+        assertEquals(Collections.singletonList(ALICE), uniqueCustomerList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniqueCustomerList.addAll(Arrays.asList(BENSON, BENSON)));
+    }
+
     @Test
     public void add_duplicatePerson_throwsDuplicatePersonException() {
         uniqueCustomerList.add(ALICE);
@@ -127,6 +157,41 @@ public class UniqueCustomerListTest {
         assertEquals(expectedUniqueCustomerList, uniqueCustomerList);
     }
 
+    @Test
+    public void remove_existingPerson_updatesIndexesOfLaterPersons() {
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.add(BENSON);
+        uniqueCustomerList.add(CARL);
+        uniqueCustomerList.remove(BENSON);
+        assertEquals(0, uniqueCustomerList.findNum(ALICE.getPhone()));
+        assertEquals(1, uniqueCustomerList.findNum(CARL.getPhone()));
+        assertEquals(1, uniqueCustomerList.findEmail(CARL.getEmail()));
+        assertThrows(PersonNotFoundException.class, () -> uniqueCustomerList.findNum(BENSON.getPhone()));
+        assertThrows(PersonNotFoundException.class, () -> uniqueCustomerList.findEmail(BENSON.getEmail()));
+    }
+
+    @Test
+    public void findNum_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniqueCustomerList.findNum(ALICE.getPhone()));
+    }
+
+    @Test
+    public void findEmail_afterSetPerson_returnsIndexOfEditedPerson() {
+        uniqueCustomerList.add(CARL);
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.setPerson(ALICE, BOB);
+        assertEquals(1, uniqueCustomerList.findEmail(BOB.getEmail()));
+        assertEquals(1, uniqueCustomerList.findNum(BOB.getPhone()));
+        assertEquals(BOB.getReward(), uniqueCustomerList.getCurrentReward(BOB.getPhone()));
+        assertThrows(PersonNotFoundException.class, () -> uniqueCustomerList.findEmail(ALICE.getEmail()));
+        assertFalse(uniqueCustomerList.contains(ALICE));
+    }
+
+    @Test
+    public void getCurrentReward_personNotInList_throwsNoSuchElementException() {
+        assertThrows(NoSuchElementException.class, () -> uniqueCustomerList.getCurrentReward(ALICE.getEmail()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.setPersons((UniqueCustomerList) null));
@@ -154,6 +219,8 @@ public class UniqueCustomerListTest {
         UniqueCustomerList expectedUniqueCustomerList = new UniqueCustomerList();
         expectedUniqueCustomerList.add(BOB);
         assertEquals(expectedUniqueCustomerList, uniqueCustomerList);
+        assertEquals(0, uniqueCustomerList.findNum(BOB.getPhone()));
+        assertFalse(uniqueCustomerList.contains(ALICE));
     }
 
     @Test
@@ -162,6 +229,109 @@ public class UniqueCustomerListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueCustomerList.setPersons(listWithDuplicateCustomers));
     }
 
+    @Test
+    public void setPersons_listWithSharedEmail_throwsDuplicatePersonException() {
+        Customer bobWithAliceEmail = new CustomerBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        List<Customer> listWithDuplicateCustomers = Arrays.asList(ALICE, CARL, bobWithAliceEmail);
+        assertThrows(DuplicatePersonException.class, () -> uniqueCustomerList.setPersons(listWithDuplicateCustomers));
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyOnMutation() {
+        long initialCount = uniqueCustomerList.getModificationCount();
+        uniqueCustomerList.contains(ALICE);
+        assertEquals(initialCount, uniqueCustomerList.getModificationCount());
+
+        uniqueCustomerList.add(ALICE);
+        long afterAdd = uniqueCustomerList.getModificationCount();
+        assertTrue(afterAdd > initialCount);
+
+        // replacing a customer with a strictly equal one changes nothing
+        uniqueCustomerList.setPerson(ALICE, new CustomerBuilder(ALICE).build());
+        assertEquals(afterAdd, uniqueCustomerList.getModificationCount());
+
+        uniqueCustomerList.setPerson(ALICE, BOB);
+        long afterSet = uniqueCustomerList.getModificationCount();
+        assertTrue(afterSet > afterAdd);
+
+        uniqueCustomerList.remove(BOB);
+        assertTrue(uniqueCustomerList.getModificationCount() > afterSet);
+    }
+
+    @Test
+    public void findBySoundex_keptInSyncWithList() {
+        String aliceCode = ALICE.getName().getSoundexCodes().get(0);
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.add(BENSON);
+        assertEquals(Collections.singleton(ALICE), uniqueCustomerList.findBySoundex(aliceCode));
+
+        Customer renamedAlice = new CustomerBuilder(ALICE).withName("Alys Pauline").build();
+        uniqueCustomerList.setPerson(ALICE, renamedAlice);
+        assertEquals(Collections.singleton(renamedAlice), uniqueCustomerList.findBySoundex(aliceCode));
+
+        uniqueCustomerList.remove(renamedAlice);
+        assertTrue(uniqueCustomerList.findBySoundex(aliceCode).isEmpty());
+    }
+
+    @Test
+    public void findByKeyword_keptInSyncWithList() {
+        uniqueCustomerList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(Collections.singleton(BENSON), uniqueCustomerList.findByKeyword("OWES"));
+
+        uniqueCustomerList.add(CARL);
+        assertEquals(Collections.singleton(CARL), uniqueCustomerList.findByKeyword("heinz@"));
+
+        Customer editedBenson = new CustomerBuilder(BENSON).withTags("gold").build();
+        uniqueCustomerList.setPerson(BENSON, editedBenson);
+        assertTrue(uniqueCustomerList.findByKeyword("owes").isEmpty());
+        assertEquals(Collections.singleton(editedBenson), uniqueCustomerList.findByKeyword("gold"));
+
+        uniqueCustomerList.remove(ALICE);
+        assertTrue(uniqueCustomerList.findByKeyword("alice").isEmpty());
+    }
+
+    @Test
+    public void findByBirthdayMonth_keptInSyncWithList() {
+        BirthdayMonth aliceMonth = ALICE.getBirthdayMonth();
+        uniqueCustomerList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(Collections.singleton(ALICE), uniqueCustomerList.findByBirthdayMonth(aliceMonth));
+
+        Customer editedAlice = new CustomerBuilder(ALICE).withBirthdayMonth(BENSON.getBirthdayMonth().value).build();
+        uniqueCustomerList.setPerson(ALICE, editedAlice);
+        assertTrue(uniqueCustomerList.findByBirthdayMonth(aliceMonth).isEmpty());
+        assertEquals(2, uniqueCustomerList.findByBirthdayMonth(BENSON.getBirthdayMonth()).size());
+    }
+
+    @Test
+    public void resolve_listChangedAfterwards_testsNewCustomers() {
+        uniqueCustomerList.add(ALICE);
+        Predicate<Customer> predicate = uniqueCustomerList.resolve(
+                new NameSoundsSimilarToPredicate(Collections.singletonList("Benson")));
+        assertFalse(predicate.test(ALICE));
+
+        uniqueCustomerList.add(BENSON);
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void resolve_filteredListOfChangingList_showsNewMatches() {
+        uniqueCustomerList.add(ALICE);
+        FilteredList<Customer> filteredCustomers =
+                new FilteredList<>(uniqueCustomerList.asUnmodifiableObservableList());
+        filteredCustomers.setPredicate(uniqueCustomerList.resolve(
+                new NameSoundsSimilarToPredicate(Collections.singletonList("Benson"))));
+        assertTrue(filteredCustomers.isEmpty());
+
+        // the filtered list tests the new customer while the list is being changed
+        uniqueCustomerList.add(BENSON);
+        assertEquals(Collections.singletonList(BENSON), filteredCustomers);
+
+        Customer editedBenson = new CustomerBuilder(BENSON).withReward(VALID_REWARD_BOB).build();
+        uniqueCustomerList.setPerson(BENSON, editedBenson);
+        assertEquals(Collections.singletonList(editedBenson), filteredCustomers);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
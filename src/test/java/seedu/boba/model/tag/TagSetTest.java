@@ -0,0 +1,67 @@
+package seedu.boba.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag GOLD = Tag.of("gold");
+    private static final Tag VIP = Tag.of("vip");
+
+    @Test
+    public void of_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(FRIENDS, null)));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsDistinctTagsSortedByName() {
+        TagSet tagSet = TagSet.of(Arrays.asList(VIP, FRIENDS, VIP, GOLD));
+
+        assertEquals(3, tagSet.size());
+        assertEquals(Arrays.asList(FRIENDS, GOLD, VIP), new ArrayList<>(tagSet));
+        assertEquals(new HashSet<>(Arrays.asList(FRIENDS, GOLD, VIP)), tagSet);
+        assertEquals(new HashSet<>(Arrays.asList(FRIENDS, GOLD, VIP)).hashCode(), tagSet.hashCode());
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(new ArrayList<>()));
+    }
+
+    @Test
+    public void withAndWithout_returnNewSetsOnlyWhenChanged() {
+        TagSet tagSet = TagSet.of(Arrays.asList(GOLD));
+
+        assertSame(tagSet, tagSet.with(GOLD));
+        assertSame(tagSet, tagSet.without(VIP));
+
+        TagSet withVip = tagSet.with(VIP);
+        assertTrue(withVip.contains(VIP));
+        assertFalse(tagSet.contains(VIP));
+        assertEquals(tagSet, withVip.without(VIP));
+        assertSame(TagSet.EMPTY, tagSet.without(GOLD));
+    }
+
+    @Test
+    public void modification_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Arrays.asList(GOLD, VIP));
+        List<Tag> tags = Arrays.asList(GOLD);
+
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(GOLD));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeAll(tags));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+    }
+
+}
@@ -1,5 +1,7 @@
 package seedu.boba.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.boba.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -7,14 +9,22 @@ import org.junit.jupiter.api.Test;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameNameIgnoringCase_returnsSameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of("FRIENDS"));
+        assertSame(tag, Tag.of("Friends"));
+        assertEquals("FRIENDS", tag.tagName);
     }
 
     @Test
@@ -0,0 +1,120 @@
+package seedu.boba.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.HOON;
+import static seedu.boba.testutil.TypicalCustomers.IDA;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.model.BobaBot;
+import seedu.boba.testutil.CustomerBuilder;
+
+public class BinaryBobaBotStorageTest {
+
+    private static final Path TYPICAL_CUSTOMERS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableBobaBotTest", "typicalCustomersBobaBot.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readBobaBot_nullFilePath_throwsNullPointerException() {
+        BinaryBobaBotStorage storage = new BinaryBobaBotStorage(testFolder.resolve("BobaBot.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readBobaBot(null));
+    }
+
+    @Test
+    public void readBobaBot_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryBobaBotStorage(testFolder.resolve("NonExistentFile.bin")).readBobaBot().isPresent());
+    }
+
+    @Test
+    public void readBobaBot_jsonFile_throwsDataConversionException() {
+        BinaryBobaBotStorage storage = new BinaryBobaBotStorage(TYPICAL_CUSTOMERS_FILE);
+        assertThrows(DataConversionException.class, storage::readBobaBot);
+    }
+
+    @Test
+    public void readBobaBot_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.bin");
+        BinaryBobaBotStorage storage = new BinaryBobaBotStorage(filePath);
+        storage.saveBobaBot(getTypicalBobaBot());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, storage::readBobaBot);
+    }
+
+    @Test
+    public void readAndSaveBobaBot_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.bin");
+        BinaryBobaBotStorage storage = new BinaryBobaBotStorage(filePath);
+        BobaBot original = getTypicalBobaBot();
+
+        // Save in new file and read back
+        storage.saveBobaBot(original, filePath);
+        assertEquals(original, new BobaBot(storage.readBobaBot(filePath).get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(new CustomerBuilder().withPhone("00012345").withReward(String.valueOf(Long.MAX_VALUE))
+                .withTags("VIP", "REGULAR").build());
+        storage.saveBobaBot(original, filePath);
+        assertEquals(original, new BobaBot(storage.readBobaBot(filePath).get()));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveBobaBot(original);
+        assertEquals(original, new BobaBot(storage.readBobaBot().get()));
+    }
+
+    @Test
+    public void saveBobaBot_typicalCustomers_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("BobaBot.json");
+        Path binaryFilePath = testFolder.resolve("BobaBot.bin");
+        new JsonBobaBotStorage(jsonFilePath).saveBobaBot(getTypicalBobaBot());
+        new BinaryBobaBotStorage(binaryFilePath).saveBobaBot(getTypicalBobaBot());
+
+        assertTrue(Files.size(binaryFilePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveBobaBot_nullBobaBot_throwsNullPointerException() {
+        BinaryBobaBotStorage storage = new BinaryBobaBotStorage(testFolder.resolve("BobaBot.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveBobaBot(null));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path binaryFilePath = testFolder.resolve("bobabot.bin");
+        Path jsonFilePath = testFolder.resolve("bobabot.json");
+
+        BobaBotFileConverter.convert(TYPICAL_CUSTOMERS_FILE, binaryFilePath);
+        assertEquals(getTypicalBobaBot(), new BinaryBobaBotStorage(binaryFilePath).readBobaBot().get());
+
+        BobaBotFileConverter.convert(binaryFilePath, jsonFilePath);
+        assertEquals(getTypicalBobaBot(), new JsonBobaBotStorage(jsonFilePath).readBobaBot().get());
+    }
+
+    @Test
+    public void convert_missingSource_throwsIoException() {
+        assertThrows(IOException.class, () -> BobaBotFileConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("bobabot.bin")));
+    }
+
+}
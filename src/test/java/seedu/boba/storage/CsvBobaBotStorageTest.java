@@ -0,0 +1,124 @@
+package seedu.boba.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.HOON;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.commons.exceptions.IllegalValueException;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.ReadOnlyBobaBot;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.model.customer.Phone;
+
+public class CsvBobaBotStorageTest {
+
+    private static final String ALICE_ROW = "Alice Pauline,94351253,alice@example.com,1,123,FRIENDS";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readBobaBot_nullFilePath_throwsNullPointerException() {
+        CsvBobaBotStorage storage = new CsvBobaBotStorage(testFolder.resolve("BobaBot.csv"));
+        assertThrows(NullPointerException.class, () -> storage.readBobaBot(null));
+    }
+
+    @Test
+    public void readBobaBot_missingFile_emptyResult() throws Exception {
+        assertFalse(new CsvBobaBotStorage(testFolder.resolve("NonExistentFile.csv")).readBobaBot().isPresent());
+    }
+
+    @Test
+    public void readBobaBot_validFile_success() throws Exception {
+        Path filePath = writeLines("\uFEFF" + CsvBobaBotStorage.HEADER, "", " " + ALICE_ROW + " ",
+                "\"Hoon Meier\",84824241,stefan@example.com,8,222324,");
+
+        ReadOnlyBobaBot bobaBot = new CsvBobaBotStorage(filePath).readBobaBot().get();
+
+        BobaBot expected = new BobaBot();
+        expected.addPerson(ALICE);
+        expected.addPerson(HOON);
+        assertTrue(expected.strictlyEquals(bobaBot));
+    }
+
+    @Test
+    public void readBobaBot_missingHeader_throwsDataConversionException() throws Exception {
+        Path filePath = writeLines(ALICE_ROW);
+        assertThrows(DataConversionException.class, () -> new CsvBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void readBobaBot_wrongColumnCount_throwsDataConversionException() throws Exception {
+        Path filePath = writeLines(CsvBobaBotStorage.HEADER, ALICE_ROW, "Hoon Meier,84824241");
+        assertThrows(DataConversionException.class, () -> new CsvBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void readBobaBot_invalidCustomer_throwsDataConversionException() throws Exception {
+        Path filePath = writeLines(CsvBobaBotStorage.HEADER, "Hoon Meier,not a phone,stefan@example.com,8,0,");
+        assertThrows(DataConversionException.class, () -> new CsvBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void readBobaBot_invalidCustomerAfterBlankRows_reportsRowOfFile() throws Exception {
+        Path filePath = writeLines(CsvBobaBotStorage.HEADER, "", ALICE_ROW, "",
+                "Hoon Meier,not a phone,stefan@example.com,8,0,");
+        String expectedMessage = String.format(CsvBobaBotStorage.MESSAGE_INVALID_ROW, 5, Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(DataConversionException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                new CsvBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void readBobaBot_repeatedPhoneOrEmail_reportsBothRows() throws Exception {
+        Path filePath = writeLines(CsvBobaBotStorage.HEADER, ALICE_ROW, "",
+                "Alice Tan,91234567,alice@example.com,1,0,");
+        String expectedMessage = String.format(CsvBobaBotStorage.MESSAGE_REPEATED_ROW, 4, 2);
+        assertThrows(DataConversionException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                new CsvBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void readCustomers_repeatedPhoneOrEmail_keepsAllRows() throws Exception {
+        Path filePath = writeLines(CsvBobaBotStorage.HEADER, ALICE_ROW, ALICE_ROW);
+        List<Customer> customers = new CsvBobaBotStorage(filePath).readCustomers().get();
+        assertEquals(2, customers.size());
+        assertTrue(customers.get(0).strictlyEquals(customers.get(1)));
+    }
+
+    @Test
+    public void readAndSaveBobaBot_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.csv");
+        CsvBobaBotStorage storage = new CsvBobaBotStorage(filePath, 0);
+        BobaBot original = getTypicalBobaBot();
+
+        storage.saveBobaBot(original);
+        assertEquals(CsvBobaBotStorage.HEADER, Files.readAllLines(filePath).get(0));
+        assertTrue(original.strictlyEquals(storage.readBobaBot().get()));
+
+        // Overwriting keeps no backups
+        original.addPerson(HOON);
+        storage.saveBobaBot(original);
+        assertTrue(original.strictlyEquals(storage.readBobaBot().get()));
+        assertFalse(Files.exists(testFolder.resolve("BobaBot.csv.bak.1")));
+    }
+
+    private Path writeLines(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.csv");
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath;
+    }
+
+}
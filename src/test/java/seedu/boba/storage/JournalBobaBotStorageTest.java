@@ -0,0 +1,187 @@
+package seedu.boba.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.ALICE;
+import static seedu.boba.testutil.TypicalCustomers.BENSON;
+import static seedu.boba.testutil.TypicalCustomers.HOON;
+import static seedu.boba.testutil.TypicalCustomers.IDA;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.commons.exceptions.DataConversionException;
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.customer.Customer;
+import seedu.boba.testutil.CustomerBuilder;
+
+public class JournalBobaBotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readBobaBot_nullFilePath_throwsNullPointerException() {
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(testFolder.resolve("BobaBot.json"));
+        assertThrows(NullPointerException.class, () -> storage.readBobaBot(null));
+    }
+
+    @Test
+    public void readBobaBot_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalBobaBotStorage(testFolder.resolve("NonExistentFile.json")).readBobaBot().isPresent());
+    }
+
+    @Test
+    public void readAndSaveBobaBot_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath);
+        BobaBot original = getTypicalBobaBot();
+
+        // first save writes a snapshot
+        storage.saveBobaBot(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertEquals(1, readJournalLines(filePath).size());
+
+        // later saves append one record per change, leaving the snapshot untouched
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveBobaBot(original);
+        original.setPerson(BENSON, new CustomerBuilder(BENSON).withReward("999").build());
+        storage.saveBobaBot(original);
+        assertEquals(new String(snapshot, StandardCharsets.UTF_8), Files.readString(filePath));
+        assertEquals(4, readJournalLines(filePath).size());
+
+        assertEquals(original, new JournalBobaBotStorage(filePath).readBobaBot().get());
+    }
+
+    @Test
+    public void saveBobaBot_overCompactionThreshold_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath, 2);
+        BobaBot original = getTypicalBobaBot();
+        storage.saveBobaBot(original);
+
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveBobaBot(original);
+        assertEquals(3, readJournalLines(filePath).size());
+
+        original.removePerson(ALICE);
+        storage.saveBobaBot(original);
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(original, new JournalBobaBotStorage(filePath).readBobaBot().get());
+    }
+
+    @Test
+    public void readBobaBot_tornFinalRecord_ignoresRecordAndCompactsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath);
+        BobaBot original = getTypicalBobaBot();
+        storage.saveBobaBot(original);
+        original.addPerson(HOON);
+        storage.saveBobaBot(original);
+
+        Files.write(JournalBobaBotStorage.getJournalFilePath(filePath),
+                "{\"op\":\"ADD\",\"index\":0,\"cust".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JournalBobaBotStorage reopenedStorage = new JournalBobaBotStorage(filePath);
+        BobaBot readBack = new BobaBot(reopenedStorage.readBobaBot().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(IDA);
+        reopenedStorage.saveBobaBot(readBack);
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(readBack, new JournalBobaBotStorage(filePath).readBobaBot().get());
+    }
+
+    @Test
+    public void readBobaBot_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath);
+        BobaBot original = getTypicalBobaBot();
+        storage.saveBobaBot(original);
+        original.addPerson(HOON);
+        storage.saveBobaBot(original);
+
+        // as if a compaction was interrupted right after writing the new snapshot
+        new JsonBobaBotStorage(filePath).saveBobaBot(original);
+        assertEquals(original, new JournalBobaBotStorage(filePath).readBobaBot().get());
+    }
+
+    @Test
+    public void readBobaBot_invalidRecordBeforeEnd_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath);
+        storage.saveBobaBot(getTypicalBobaBot());
+
+        Files.write(JournalBobaBotStorage.getJournalFilePath(filePath),
+                "not a record\n{\"op\":\"REMOVE\",\"index\":0}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> new JournalBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void readBobaBot_recordOutOfRange_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath);
+        storage.saveBobaBot(getTypicalBobaBot());
+
+        Files.write(JournalBobaBotStorage.getJournalFilePath(filePath),
+                "{\"op\":\"REMOVE\",\"index\":100}\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> new JournalBobaBotStorage(filePath).readBobaBot());
+    }
+
+    @Test
+    public void convert_journalledJsonToBinary_includesJournal() throws Exception {
+        Path filePath = testFolder.resolve("BobaBot.json");
+        Path binaryFilePath = testFolder.resolve("BobaBot.bin");
+        JournalBobaBotStorage storage = new JournalBobaBotStorage(filePath);
+        BobaBot original = getTypicalBobaBot();
+        storage.saveBobaBot(original);
+        original.addPerson(HOON);
+        storage.saveBobaBot(original);
+
+        BobaBotFileConverter.convert(filePath, binaryFilePath);
+        assertEquals(original, new BinaryBobaBotStorage(binaryFilePath).readBobaBot().get());
+    }
+
+    @Test
+    public void diff_singleChange_singleRecord() {
+        BobaBot bobaBot = getTypicalBobaBot();
+        List<Customer> before = bobaBot.getPersonSnapshot();
+
+        bobaBot.setPerson(BENSON, new CustomerBuilder(BENSON).withReward("999").build());
+        assertEquals(1, JournalBobaBotStorage.diff(before, bobaBot.getPersonSnapshot()).size());
+
+        assertEquals(0, JournalBobaBotStorage.diff(before, before).size());
+    }
+
+    @Test
+    public void diff_manyChanges_replaysIntoCurrentList() throws Exception {
+        BobaBot bobaBot = getTypicalBobaBot();
+        List<Customer> before = bobaBot.getPersonSnapshot();
+        bobaBot.removePerson(ALICE);
+        bobaBot.addPerson(HOON);
+        bobaBot.setPerson(BENSON, new CustomerBuilder(BENSON).withReward("999").build());
+        bobaBot.addPerson(0, IDA);
+        List<Customer> after = bobaBot.getPersonSnapshot();
+
+        List<Customer> replayed = new ArrayList<>(before);
+        for (JsonAdaptedJournalRecord record : JournalBobaBotStorage.diff(before, after)) {
+            record.applyTo(replayed);
+        }
+        assertEquals(after, replayed);
+    }
+
+    private List<String> readJournalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalBobaBotStorage.getJournalFilePath(filePath));
+    }
+}
@@ -3,14 +3,23 @@ package seedu.boba.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.boba.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.boba.commons.exceptions.IllegalValueException;
 import seedu.boba.commons.util.JsonUtil;
 import seedu.boba.model.BobaBot;
+import seedu.boba.model.customer.Phone;
 import seedu.boba.testutil.TypicalCustomers;
 
 public class JsonSerializableBobaBotTest {
@@ -40,8 +49,64 @@ public class JsonSerializableBobaBotTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableBobaBot dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableBobaBot.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableBobaBot.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(JsonSerializableBobaBot.MESSAGE_REPEATED_PERSON, 2, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_reportsFirstInvalidRow() {
+        List<JsonAdaptedCustomer> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String phone = String.valueOf(80000000 + i);
+            persons.add(new JsonAdaptedCustomer("Customer " + i, i == 699 || i == 1500 ? "invalid" : phone,
+                    "customer" + i + "@example.com", "1", "0", new ArrayList<>()));
+        }
+
+        String expectedMessage = String.format(JsonSerializableBobaBot.MESSAGE_INVALID_PERSON, 700,
+                Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, new JsonSerializableBobaBot(persons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithRepeatedEmail_reportsFirstRepeatedRow() {
+        List<JsonAdaptedCustomer> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String email = i == 1200 || i == 1700 ? "customer300@example.com" : "customer" + i + "@example.com";
+            persons.add(new JsonAdaptedCustomer("Customer " + i, String.valueOf(80000000 + i), email, "1", "0",
+                    new ArrayList<>()));
+        }
+
+        String expectedMessage = String.format(JsonSerializableBobaBot.MESSAGE_REPEATED_PERSON, 1201, 301);
+        assertThrows(IllegalValueException.class, expectedMessage, new JsonSerializableBobaBot(persons)::toModelType);
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(Files.newInputStream(TYPICAL_PERSONS_FILE))) {
+            assertEquals(TypicalCustomers.getTypicalBobaBot(), JsonSerializableBobaBot.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(Files.newInputStream(DUPLICATE_PERSON_FILE))) {
+            String expectedMessage = String.format(JsonSerializableBobaBot.MESSAGE_REPEATED_PERSON, 2, 1);
+            assertThrows(IllegalValueException.class, expectedMessage, () -> JsonSerializableBobaBot.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void writeTo_typicalPersons_sameAsJsonString() throws Exception {
+        BobaBot typicalPersonsBobaBot = TypicalCustomers.getTypicalBobaBot();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            JsonSerializableBobaBot.writeTo(generator, typicalPersonsBobaBot);
+        }
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableBobaBot(typicalPersonsBobaBot)), out.toString("UTF-8"));
+        try (JsonParser parser = JsonUtil.createJsonParser(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(typicalPersonsBobaBot, JsonSerializableBobaBot.readFrom(parser));
+        }
     }
 
 }
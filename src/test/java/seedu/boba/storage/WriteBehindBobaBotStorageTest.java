@@ -0,0 +1,139 @@
+package seedu.boba.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.boba.testutil.Assert.assertThrows;
+import static seedu.boba.testutil.TypicalCustomers.HOON;
+import static seedu.boba.testutil.TypicalCustomers.IDA;
+import static seedu.boba.testutil.TypicalCustomers.getTypicalBobaBot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.boba.model.BobaBot;
+import seedu.boba.model.ReadOnlyBobaBot;
+
+public class WriteBehindBobaBotStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveBobaBot_nullBobaBot_throwsNullPointerException() {
+        WriteBehindBobaBotStorage storage =
+                new WriteBehindBobaBotStorage(new JsonBobaBotStorage(testFolder.resolve("BobaBot.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveBobaBot(null));
+    }
+
+    @Test
+    public void saveAndFlush_allInOrder_success() throws Exception {
+        WriteBehindBobaBotStorage storage =
+                new WriteBehindBobaBotStorage(new JsonBobaBotStorage(testFolder.resolve("BobaBot.json")));
+        BobaBot original = getTypicalBobaBot();
+
+        storage.saveBobaBot(original);
+        // changes made after the save must not leak into the data being written
+        original.addPerson(HOON);
+        storage.flush();
+        assertEquals(getTypicalBobaBot(), new BobaBot(storage.readBobaBot().get()));
+
+        // reading waits for the pending save
+        original.addPerson(IDA);
+        storage.saveBobaBot(original);
+        assertEquals(original, new BobaBot(storage.readBobaBot().get()));
+    }
+
+    @Test
+    public void saveBobaBot_whileWriting_coalescesIntoLatestSave() throws Exception {
+        BlockingBobaBotStorageStub blockingStorage = new BlockingBobaBotStorageStub(testFolder.resolve("BobaBot.json"));
+        WriteBehindBobaBotStorage storage = new WriteBehindBobaBotStorage(blockingStorage);
+        BobaBot bobaBot = getTypicalBobaBot();
+
+        storage.saveBobaBot(bobaBot);
+        blockingStorage.writeStarted.await();
+        bobaBot.addPerson(HOON);
+        storage.saveBobaBot(bobaBot);
+        bobaBot.addPerson(IDA);
+        storage.saveBobaBot(bobaBot);
+        blockingStorage.releaseWrites.countDown();
+        storage.flush();
+
+        assertEquals(2, blockingStorage.savedBobaBots.size());
+        assertEquals(bobaBot, blockingStorage.savedBobaBots.get(1));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        WriteBehindBobaBotStorage storage = new WriteBehindBobaBotStorage(
+                new JsonBobaBotIoExceptionThrowingStub(testFolder.resolve("BobaBot.json")));
+        storage.saveBobaBot(getTypicalBobaBot());
+        assertThrows(IOException.class, storage::flush);
+
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    @Test
+    public void saveBobaBot_withCallback_runsCallbackOnlyOnceWritten() throws Exception {
+        WriteBehindBobaBotStorage storage =
+                new WriteBehindBobaBotStorage(new JsonBobaBotStorage(testFolder.resolve("BobaBot.json")));
+        AtomicBoolean isWritten = new AtomicBoolean();
+        storage.saveBobaBot(getTypicalBobaBot(), () -> isWritten.set(true));
+        storage.flush();
+        assertTrue(isWritten.get());
+
+        WriteBehindBobaBotStorage failingStorage = new WriteBehindBobaBotStorage(
+                new JsonBobaBotIoExceptionThrowingStub(testFolder.resolve("BobaBot.json")));
+        AtomicBoolean isFailedWriteWritten = new AtomicBoolean();
+        failingStorage.saveBobaBot(getTypicalBobaBot(), () -> isFailedWriteWritten.set(true));
+        assertThrows(IOException.class, failingStorage::flush);
+        assertFalse(isFailedWriteWritten.get());
+    }
+
+    /**
+     * A stub class that blocks its first write until released, and remembers what it was asked to save.
+     */
+    private static class BlockingBobaBotStorageStub extends JsonBobaBotStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+        private final List<BobaBot> savedBobaBots = new ArrayList<>();
+
+        private BlockingBobaBotStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveBobaBot(ReadOnlyBobaBot bobaBot, Path filePath) {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            savedBobaBots.add(new BobaBot(bobaBot));
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonBobaBotIoExceptionThrowingStub extends JsonBobaBotStorage {
+        private JsonBobaBotIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveBobaBot(ReadOnlyBobaBot bobaBot, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class CustomerBuilder {
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
-        birthdayMonth = new BirthdayMonth(DEFAULT_BIRTHDAY_MONTH);
+        birthdayMonth = BirthdayMonth.of(DEFAULT_BIRTHDAY_MONTH);
         reward = new Reward(DEFAULT_REWARD);
         tags = new HashSet<>();
     }
@@ -82,7 +82,7 @@ public class CustomerBuilder {
      * Sets the {@code BirthdayMonth} of the {@code Customer} that we are building.
      */
     public CustomerBuilder withBirthdayMonth(String birthdayMonth) {
-        this.birthdayMonth = new BirthdayMonth(birthdayMonth);
+        this.birthdayMonth = BirthdayMonth.of(birthdayMonth);
         return this;
     }
 
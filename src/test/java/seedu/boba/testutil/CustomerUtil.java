@@ -35,7 +35,7 @@ public class CustomerUtil {
         sb.append(PREFIX_PHONE + customer.getPhone().value + " ");
         sb.append(PREFIX_EMAIL + customer.getEmail().value + " ");
         sb.append(PREFIX_BIRTHDAY_MONTH + customer.getBirthdayMonth().value + " ");
-        sb.append(PREFIX_REWARD + customer.getReward().value + " ");
+        sb.append(PREFIX_REWARD + customer.getReward().toString() + " ");
         customer.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
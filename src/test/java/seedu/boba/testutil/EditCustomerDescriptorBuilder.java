@@ -68,7 +68,7 @@ public class EditCustomerDescriptorBuilder {
      * Sets the {@code BirthdayMonth} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditCustomerDescriptorBuilder withBirthdayMonth(String birthdayMonth) {
-        descriptor.setBirthdayMonth(new BirthdayMonth(birthdayMonth));
+        descriptor.setBirthdayMonth(BirthdayMonth.of(birthdayMonth));
         return this;
     }
 
@@ -85,7 +85,7 @@ public class EditCustomerDescriptorBuilder {
      * that we are building.
      */
     public EditCustomerDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }